@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+/**
+ * The number of files written, skipped because their content did not change, and deleted because they are not produced anymore,
+ * when a conversion is published into an output folder with write-if-changed enabled.
+ */
+public final class PublishResult {
+
+    private final int written;
+    private final int skipped;
+    private final int deleted;
+
+    public PublishResult(int written, int skipped, int deleted) {
+        this.written = written;
+        this.skipped = skipped;
+        this.deleted = deleted;
+    }
+
+    public int getWritten() {
+        return written;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d files written, %d files skipped, %d stale files deleted", written, skipped, deleted);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import io.github.swagger2markup.internal.shard.ShardWorker;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * Entry point of a shard worker process, started by the converter when shards are configured.<br>
+ * It lives in this package so that it can pass the context of the converter of its task to the {@link ShardWorker}.
+ */
+final class ShardWorkerMain {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardWorkerMain.class);
+
+    private ShardWorkerMain() {
+    }
+
+    public static void main(String[] args) {
+        Validate.isTrue(args.length == 1, "Usage: ShardWorkerMain <task file>");
+        try {
+            Properties task = ShardWorker.readTask(Paths.get(args[0]));
+            Swagger2MarkupExtensionRegistry extensionRegistry = ShardWorker.newExtensionRegistry();
+            Swagger2MarkupConverter converter = ShardWorker.newConverterBuilder(task, extensionRegistry).build();
+            ShardWorker.render(task, converter.getContext(), extensionRegistry);
+        } catch (Throwable e) {
+            logger.error("Shard worker failed", e);
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+}
@@ -197,6 +197,126 @@ public interface Swagger2MarkupConfig {
      */
     LineSeparator getLineSeparator();
 
+    /**
+     * Specifies if the overview, paths, definitions and security documents should be built and written in parallel.
+     *
+     * @return true if the documents are built in parallel
+     */
+    boolean isParallelDocumentsEnabled();
+
+    /**
+     * Specifies if the path operations should be rendered in parallel.<br>
+     * Extensions applied to path operations must be thread-safe when enabled.
+     *
+     * @return true if the path operations are rendered in parallel
+     */
+    boolean isParallelOperationsEnabled();
+
+    /**
+     * Specifies if the definitions should be rendered in parallel.<br>
+     * Extensions applied to definitions must be thread-safe when enabled.
+     *
+     * @return true if the definitions are rendered in parallel
+     */
+    boolean isParallelDefinitionsEnabled();
+
+    /**
+     * Specifies if the tag sections of the paths document should be rendered in parallel, when paths are grouped by tags.<br>
+     * Ignored if parallel operations are enabled, as operations are then already rendered in parallel.
+     *
+     * @return true if the tag sections are rendered in parallel
+     */
+    boolean isParallelTagsEnabled();
+
+    /**
+     * Specifies the number of local worker processes rendering the path operations and definitions.<br>
+     * 0 disables sharding.
+     *
+     * @return the number of shards
+     */
+    int getShardCount();
+
+    /**
+     * Specifies how the path operations are split into shards.
+     *
+     * @return the ShardBy enum
+     */
+    ShardBy getShardBy();
+
+    /**
+     * Specifies if the paths document should be streamed into its output when it is written into a file, a folder or a Writer.<br>
+     * Each path operation is written and released as soon as it is rendered, so that the memory used does not depend on the number of operations.
+     * Path operations are then rendered sequentially, unless a fragment memory budget is configured.
+     *
+     * @return true if the paths document is streamed
+     */
+    boolean isStreamingPathsEnabled();
+
+    /**
+     * Specifies the heap size, in bytes, of the fragments rendered in parallel which are held until they are assembled in document order.<br>
+     * Fragments beyond this budget spill into a temporary file. 0 keeps all fragments on the heap.
+     *
+     * @return the fragment memory budget
+     */
+    long getFragmentMemoryBudget();
+
+    /**
+     * Specifies the maximum number of separated operation and definition files written asynchronously at the same time, on the executor
+     * of the conversion, while the rendering continues.<br>
+     * 0 writes each file synchronously on the rendering thread.
+     *
+     * @return the maximum number of concurrent separated file writes
+     */
+    int getSeparatedFileWriterThreads();
+
+    /**
+     * Specifies if a conversion into a folder should only write the files whose content changed since the previous conversion into this folder.<br>
+     * A manifest of the hash and size of each written file is kept in the folder, and the files of the previous conversion which are not
+     * produced anymore are deleted.
+     *
+     * @return true if only the changed files are written
+     */
+    boolean isWriteIfChangedEnabled();
+
+    /**
+     * Specifies the size, in bytes, from which a conversion into a single file continues into a new part file.<br>
+     * Parts only break between documents, path operations and definitions, and a master file includes the parts in order.
+     * 0 writes a single file.
+     *
+     * @return the rolling file size
+     */
+    long getRollingFileSize();
+
+    /**
+     * Specifies if each tag section of the paths document should be written into its own file, when paths are grouped by tags.<br>
+     * The tag files are rendered in parallel, and the paths document only contains an index of the tag files.
+     *
+     * @return true if the tag sections are written into separated files
+     */
+    boolean isSeparatedTagsEnabled();
+
+    /**
+     * Separated tags sub-folder name.
+     *
+     * @return the tags sub-folder name
+     */
+    String getSeparatedTagsFolder();
+
+    /**
+     * Specifies how separated definitions are grouped into files : one file per definition with AS_IS, or one file per group of definitions.<br>
+     * The group of a definition is resolved with the definition group key. The groups are rendered in parallel.
+     *
+     * @return the definition grouping
+     */
+    DefinitionGroupBy getDefinitionsGroupedBy();
+
+    /**
+     * Specifies the name separator, or the vendor extension name, resolving the group of a definition when definitions are grouped.
+     *
+     * @return the definition group key
+     */
+    String getDefinitionGroupKey();
+
     /**
      * Returns properties for extensions.
      *
@@ -15,31 +15,63 @@
  */
 package io.github.swagger2markup;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
 import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
-import io.github.swagger2markup.internal.document.builder.DefinitionsDocumentBuilder;
-import io.github.swagger2markup.internal.document.builder.OverviewDocumentBuilder;
-import io.github.swagger2markup.internal.document.builder.PathsDocumentBuilder;
-import io.github.swagger2markup.internal.document.builder.SecurityDocumentBuilder;
+import io.github.swagger2markup.internal.document.ArchiveWriter;
+import io.github.swagger2markup.internal.document.MarkupDocument;
+import io.github.swagger2markup.internal.document.OutputManifest;
+import io.github.swagger2markup.internal.document.RollingFileWriter;
+import io.github.swagger2markup.internal.document.builder.*;
+import io.github.swagger2markup.internal.shard.ShardRendering;
+import io.github.swagger2markup.internal.shard.ShardUtils;
+import io.github.swagger2markup.internal.utils.ConcurrentUtils;
+import io.github.swagger2markup.internal.utils.StagingUtils;
+import io.github.swagger2markup.internal.utils.SwaggerSourceUtils;
+import io.github.swagger2markup.internal.utils.SwaggerUtils;
+import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
+import io.github.swagger2markup.markup.builder.MarkupDocBuilders;
+import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import io.github.swagger2markup.model.PathOperation;
 import io.github.swagger2markup.spi.*;
 import io.github.swagger2markup.utils.URIUtils;
 import io.swagger.models.Swagger;
 import io.swagger.parser.SwaggerParser;
-import org.apache.commons.io.IOUtils;
+import io.swagger.util.Json;
 import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -47,6 +79,23 @@ import java.nio.file.StandardOpenOption;
  */
 public class Swagger2MarkupConverter {
 
+    private static final Logger logger = LoggerFactory.getLogger(Swagger2MarkupConverter.class);
+
+    /**
+     * The index of the paths document in the {@link #documentBuilders(Context, Path, ShardRendering)} and {@link #documentNames()} lists.
+     */
+    private static final int PATHS_DOCUMENT_INDEX = 1;
+
+    /**
+     * The index of the definitions document in the {@link #documentBuilders(Context, Path, ShardRendering)} and {@link #documentNames()} lists.
+     */
+    private static final int DEFINITIONS_DOCUMENT_INDEX = 2;
+
+    /**
+     * The output path of the document builders writing into an archive, so that separated files are resolved to relative entry names.
+     */
+    private static final Path ARCHIVE_ROOT = Paths.get("");
+
     private Context context;
 
     private Swagger2MarkupExtensionRegistry extensionRegistry;
@@ -133,29 +182,44 @@ public class Swagger2MarkupConverter {
     }
 
     /**
-     * Creates a Swagger2MarkupConverter.Builder from a given Swagger YAML or JSON String.
+     * Creates a Swagger2MarkupConverter.Builder from a given Swagger YAML or JSON String.<br>
+     * Swagger 2.0 sources are read from their JSON tree, other sources, e.g. Swagger 1.2, are converted by the SwaggerParser.
      *
      * @param swaggerString the Swagger YAML or JSON String.
      * @return a Swagger2MarkupConverter
      */
     public static Builder from(String swaggerString) {
         Validate.notEmpty(swaggerString, "swaggerString must not be null");
-        return from(new StringReader(swaggerString));
+        JsonNode swaggerTree = readSwaggerTree(new StringReader(swaggerString));
+        Swagger swagger;
+        if (SwaggerSourceUtils.isSwagger2(swaggerTree)) {
+            swagger = new SwaggerParser().read(swaggerTree, true);
+        } else {
+            swagger = swaggerTree != null ? new SwaggerParser().parse(swaggerString) : null;
+        }
+        if (swagger == null)
+            throw new IllegalArgumentException("Swagger source is in a wrong format");
+
+        return new Builder(swagger);
     }
 
     /**
-     * Creates a Swagger2MarkupConverter.Builder from a given Swagger YAML or JSON reader.
+     * Creates a Swagger2MarkupConverter.Builder from a given Swagger YAML or JSON reader.<br>
+     * The reader is parsed into a JSON tree without reading the source into a String first, and Swagger 2.0 sources are read from this tree.
+     * Other sources, e.g. Swagger 1.2, fall back to the buffered SwaggerParser conversion : the tree is written back into a JSON String
+     * which is parsed by the SwaggerParser, as {@link #from(String)} does.
      *
      * @param swaggerReader the Swagger YAML or JSON reader.
      * @return a Swagger2MarkupConverter
      */
     public static Builder from(Reader swaggerReader) {
         Validate.notNull(swaggerReader, "swaggerReader must not be null");
+        JsonNode swaggerTree = readSwaggerTree(swaggerReader);
         Swagger swagger;
-        try {
-            swagger = new SwaggerParser().parse(IOUtils.toString(swaggerReader));
-        } catch (IOException e) {
-            throw new RuntimeException("Swagger source can not be parsed", e);
+        if (SwaggerSourceUtils.isSwagger2(swaggerTree)) {
+            swagger = new SwaggerParser().read(swaggerTree, true);
+        } else {
+            swagger = swaggerTree != null ? new SwaggerParser().parse(writeSwaggerTree(swaggerTree)) : null;
         }
         if (swagger == null)
             throw new IllegalArgumentException("Swagger source is in a wrong format");
@@ -163,18 +227,71 @@ public class Swagger2MarkupConverter {
         return new Builder(swagger);
     }
 
+    private static JsonNode readSwaggerTree(Reader swaggerReader) {
+        try {
+            return SwaggerSourceUtils.readTree(swaggerReader);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Swagger source is in a wrong format", e);
+        } catch (IOException e) {
+            throw new RuntimeException("Swagger source can not be parsed", e);
+        }
+    }
+
+    private static String writeSwaggerTree(JsonNode swaggerTree) {
+        try {
+            return Json.mapper().writeValueAsString(swaggerTree);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Swagger source can not be parsed", e);
+        }
+    }
+
     /**
-     * Converts the Swagger specification into the given {@code outputDirectory}.
+     * Converts the Swagger specification into the given {@code outputDirectory}.<br>
+     * If the conversion can be cancelled, the documents are written into a staging directory first and only moved into the
+     * {@code outputDirectory} once the conversion is completed.<br>
+     * If write-if-changed is enabled, only the files whose content changed since the previous conversion are moved into the
+     * {@code outputDirectory}, and the files of the previous conversion which are not produced anymore are deleted.
      *
      * @param outputDirectory the output directory path
+     * @return the number of files written, skipped and deleted if write-if-changed is enabled, null otherwise
      */
-    public void toFolder(Path outputDirectory){
+    public PublishResult toFolder(final Path outputDirectory){
         Validate.notNull(outputDirectory, "outputDirectory must not be null");
-        
-        new OverviewDocumentBuilder(context, extensionRegistry, outputDirectory).build().writeToFile(outputDirectory.resolve(context.config.getOverviewDocument()), StandardCharsets.UTF_8);
-        new PathsDocumentBuilder(context, extensionRegistry, outputDirectory).build().writeToFile(outputDirectory.resolve(context.config.getPathsDocument()), StandardCharsets.UTF_8);
-        new DefinitionsDocumentBuilder(context, extensionRegistry, outputDirectory).build().writeToFile(outputDirectory.resolve(context.config.getDefinitionsDocument()), StandardCharsets.UTF_8);
-        new SecurityDocumentBuilder(context, extensionRegistry, outputDirectory).build().writeToFile(outputDirectory.resolve(context.config.getSecurityDocument()), StandardCharsets.UTF_8);
+
+        final Context conversionContext = context.forConversion();
+        if (conversionContext.isCancellable() || context.config.isWriteIfChangedEnabled()) {
+            Path stagingDirectory = StagingUtils.createStagingDirectory(outputDirectory);
+            try {
+                toFolder(conversionContext, stagingDirectory);
+            } catch (RuntimeException | Error e) {
+                StagingUtils.deleteQuietly(stagingDirectory);
+                throw e;
+            }
+            return publishDirectory(stagingDirectory, outputDirectory);
+        } else {
+            toFolder(conversionContext, outputDirectory);
+            return null;
+        }
+    }
+
+    private void toFolder(Context conversionContext, final Path outputDirectory) {
+        try (ShardRendering shardRendering = renderShards(conversionContext, outputDirectory)) {
+            final List<MarkupDocumentBuilder> documentBuilders = documentBuilders(conversionContext, outputDirectory, shardRendering);
+            final List<String> documentNames = documentNames();
+            List<Callable<Void>> documentTasks = new ArrayList<>();
+            for (int i = 0; i < documentBuilders.size(); i++) {
+                final int documentIndex = i;
+                documentTasks.add(() -> {
+                    Path documentFile = outputDirectory.resolve(documentNames.get(documentIndex));
+                    if (documentIndex == PATHS_DOCUMENT_INDEX && conversionContext.config.isStreamingPathsEnabled())
+                        streamPathsDocument((PathsDocumentBuilder) documentBuilders.get(documentIndex), withFileExtension(documentFile));
+                    else
+                        buildDocument(documentBuilders.get(documentIndex)).writeToFile(documentFile, StandardCharsets.UTF_8);
+                    return null;
+                });
+            }
+            ConcurrentUtils.invokeAll(context.executor, documentParallelism(documentTasks.size()), documentTasks);
+        }
     }
 
     /**
@@ -199,27 +316,87 @@ public class Swagger2MarkupConverter {
      *
      * @param outputFile the output file
      */
-    public void toFile(Path outputFile) {
+    public void toFile(final Path outputFile) {
         Validate.notNull(outputFile, "outputFile must not be null");
 
-        new OverviewDocumentBuilder(context,extensionRegistry,  null).build().writeToFile(outputFile, StandardCharsets.UTF_8);
-        new PathsDocumentBuilder(context, extensionRegistry, null).build().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        new DefinitionsDocumentBuilder(context, extensionRegistry, null).build().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        new SecurityDocumentBuilder(context, extensionRegistry, null).build().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        toFileWithoutExtension(withFileExtension(outputFile));
     }
 
     /**
-     * Converts the Swagger specification the given {@code outputFile}.
+     * Converts the Swagger specification the given {@code outputFile}.<br>
+     * The documents are streamed through a single writer into a staging file next to the {@code outputFile}, which is
+     * moved to the {@code outputFile} once the conversion is completed.<br>
+     * If a rolling file size is configured, the documents are written into part files next to the {@code outputFile} instead,
+     * and the {@code outputFile} is a master file including the parts in order.
      *
      * @param outputFile the output file
      */
-    public void toFileWithoutExtension(Path outputFile){
+    public void toFileWithoutExtension(final Path outputFile){
         Validate.notNull(outputFile, "outputFile must not be null");
 
-        new OverviewDocumentBuilder(context, extensionRegistry, null).build().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8);
-        new PathsDocumentBuilder(context, extensionRegistry, null).build().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        new DefinitionsDocumentBuilder(context, extensionRegistry, null).build().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        new SecurityDocumentBuilder(context, extensionRegistry, null).build().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        final Context conversionContext = context.forConversion();
+        if (context.config.getRollingFileSize() > 0) {
+            toRollingFiles(conversionContext, outputFile);
+            return;
+        }
+        Path stagingFile = StagingUtils.createStagingFile(outputFile);
+        try (ShardRendering shardRendering = renderShards(conversionContext, null);
+             FileChannel channel = newFileChannel(stagingFile);
+             Writer writer = newFileWriter(channel)) {
+            buildDocuments(streamingPaths(documentBuilders(conversionContext, null, shardRendering), writer, channel), documentWriter(writer));
+        } catch (IOException e) {
+            StagingUtils.deleteQuietly(stagingFile);
+            throw new RuntimeException(String.format("Failed to write file '%s'", outputFile), e);
+        } catch (RuntimeException | Error e) {
+            StagingUtils.deleteQuietly(stagingFile);
+            throw e;
+        }
+        StagingUtils.publishFile(stagingFile, outputFile);
+    }
+
+    /**
+     * Converts the Swagger specification into part files next to the {@code outputFile}, named after it, and writes the {@code outputFile}
+     * as a master file including the parts in order.<br>
+     * The documents are built sequentially, and the paths and definitions documents are streamed, so that a new part is only started
+     * between documents, path operations and definitions, once the current part reached the rolling file size.
+     * The parts and the master file are written into a staging directory first, and moved next to the {@code outputFile} once the conversion is completed.
+     *
+     * @param conversionContext the context of the conversion
+     * @param outputFile        the master file
+     */
+    private void toRollingFiles(Context conversionContext, Path outputFile) {
+        Validate.isTrue(context.config.getMarkupLanguage() == MarkupLanguage.ASCIIDOC, "Rolling output files require the AsciiDoc markup language");
+
+        String fileName = outputFile.getFileName().toString();
+        Path stagingDirectory = StagingUtils.createStagingDirectory(outputFile);
+        try {
+            List<Path> partFiles;
+            try (ShardRendering shardRendering = renderShards(conversionContext, null);
+                 RollingFileWriter writer = new RollingFileWriter(stagingDirectory, fileName, context.config.getRollingFileSize())) {
+                List<MarkupDocumentBuilder> documentBuilders = documentBuilders(conversionContext, null, shardRendering);
+                for (int i = 0; i < documentBuilders.size(); i++) {
+                    // The document builder is released once its document is written
+                    MarkupDocumentBuilder documentBuilder = documentBuilders.set(i, null);
+                    if (i == PATHS_DOCUMENT_INDEX || i == DEFINITIONS_DOCUMENT_INDEX)
+                        documentBuilder.withStreamingOutput(writer, null);
+                    writer.write(buildDocument(documentBuilder).toString());
+                    writer.rollIfFull();
+                }
+                partFiles = writer.getPartFiles();
+            }
+            MarkupDocBuilder masterDocBuilder = MarkupDocBuilders.documentBuilder(context.config.getMarkupLanguage(), context.config.getLineSeparator());
+            for (Path partFile : partFiles) {
+                masterDocBuilder.textLine("include::" + partFile.getFileName() + "[]");
+            }
+            masterDocBuilder.writeToFileWithoutExtension(stagingDirectory.resolve(fileName), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            StagingUtils.deleteQuietly(stagingDirectory);
+            throw new RuntimeException(String.format("Failed to write file '%s'", outputFile), e);
+        } catch (RuntimeException | Error e) {
+            StagingUtils.deleteQuietly(stagingDirectory);
+            throw e;
+        }
+        StagingUtils.publishDirectory(stagingDirectory, outputFile.toAbsolutePath().getParent());
     }
 
     /**
@@ -229,19 +406,532 @@ public class Swagger2MarkupConverter {
      */
     public String toString() {
 
-        StringBuilder sb = new StringBuilder();
-        sb.append(new OverviewDocumentBuilder(context,extensionRegistry,  null).build().toString());
-        sb.append(new PathsDocumentBuilder(context, extensionRegistry, null).build().toString());
-        sb.append(new DefinitionsDocumentBuilder(context, extensionRegistry, null).build().toString());
-        sb.append(new SecurityDocumentBuilder(context, extensionRegistry, null).build().toString());
+        final StringBuilder sb = new StringBuilder();
+        Context conversionContext = context.forConversion();
+        try (ShardRendering shardRendering = renderShards(conversionContext, null)) {
+            buildDocuments(documentBuilders(conversionContext, null, shardRendering), (documentIndex, document) -> sb.append(document.toString()));
+        }
         return sb.toString();
     }
 
+    /**
+     * Converts the Swagger specification into the given {@code writer}.<br>
+     * Each document is written and flushed as soon as it is built and is then released, so that only one document is held in memory
+     * at a time unless parallel documents are enabled. The writer is not closed.
+     *
+     * @param writer the writer
+     */
+    public void toWriter(final Writer writer) {
+        Validate.notNull(writer, "writer must not be null");
+
+        Context conversionContext = context.forConversion();
+        try (ShardRendering shardRendering = renderShards(conversionContext, null)) {
+            buildDocuments(streamingPaths(documentBuilders(conversionContext, null, shardRendering), writer, null), documentWriter(writer));
+        }
+    }
+
+    /**
+     * Converts the Swagger specification into the given {@code outputStream}, see {@link #toWriter(Writer)}.<br>
+     * The output stream is flushed after each document and is not closed.
+     *
+     * @param outputStream the output stream
+     * @param charset      the charset to use for encoding
+     */
+    public void toOutputStream(OutputStream outputStream, Charset charset) {
+        Validate.notNull(outputStream, "outputStream must not be null");
+        Validate.notNull(charset, "charset must not be null");
+
+        toWriter(new OutputStreamWriter(outputStream, charset));
+    }
+
+    /**
+     * Converts the Swagger specification into an archive written into the given {@code outputStream}.<br>
+     * The archive contains the documents and the separated operation and definition files, with the same layout as {@link #toFolder(Path)},
+     * and is written without going through the filesystem. Each entry is added as soon as it is rendered. The output stream is not closed.
+     *
+     * @param outputStream  the output stream
+     * @param archiveFormat the archive format
+     */
+    public void toArchive(OutputStream outputStream, ArchiveFormat archiveFormat) {
+        Validate.notNull(outputStream, "outputStream must not be null");
+        Validate.notNull(archiveFormat, "archiveFormat must not be null");
+
+        try {
+            ArchiveWriter archiveWriter = ArchiveWriter.newArchiveWriter(archiveFormat, outputStream);
+            toArchive(archiveWriter);
+            archiveWriter.finish();
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write archive", e);
+        }
+    }
+
+    /**
+     * Converts the Swagger specification into the given {@code archiveFile}, see {@link #toArchive(OutputStream, ArchiveFormat)}.<br>
+     * The archive is written into a staging file next to the {@code archiveFile}, which is moved to the {@code archiveFile} once the conversion is completed.
+     *
+     * @param archiveFile   the archive file
+     * @param archiveFormat the archive format
+     */
+    public void toArchive(final Path archiveFile, ArchiveFormat archiveFormat) {
+        Validate.notNull(archiveFile, "archiveFile must not be null");
+        Validate.notNull(archiveFormat, "archiveFormat must not be null");
+
+        Path stagingFile = StagingUtils.createStagingFile(archiveFile);
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(stagingFile))) {
+            toArchive(outputStream, archiveFormat);
+        } catch (IOException e) {
+            StagingUtils.deleteQuietly(stagingFile);
+            throw new RuntimeException(String.format("Failed to write file '%s'", archiveFile), e);
+        } catch (RuntimeException | Error e) {
+            StagingUtils.deleteQuietly(stagingFile);
+            throw e;
+        }
+        StagingUtils.publishFile(stagingFile, archiveFile);
+    }
+
+    /**
+     * Converts the Swagger specification in memory, without going through the filesystem.<br>
+     * The returned map contains the documents and the separated operation and definition files, keyed by their path relative to
+     * the output folder of {@link #toFolder(Path)}, with '/' separators, e.g. {@code paths.adoc} or {@code operations/addPet.adoc}.
+     *
+     * @return the contents of the documents and separated files by relative path, in the order they were rendered
+     */
+    public Map<String, CharSequence> toMap() {
+        Map<String, CharSequence> documents = new LinkedHashMap<>();
+        try {
+            toArchive(ArchiveWriter.newMemoryArchiveWriter(documents));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to build documents", e);
+        }
+        return documents;
+    }
+
+    /**
+     * Adds the documents and the separated files to the {@code archiveWriter}, each one as soon as it is rendered.
+     *
+     * @param archiveWriter the archive writer
+     * @throws IOException if an entry can't be written
+     */
+    private void toArchive(final ArchiveWriter archiveWriter) throws IOException {
+        Validate.isTrue(context.config.getShardCount() == 0 || !(context.config.isSeparatedOperationsEnabled() || context.config.isSeparatedDefinitionsEnabled()),
+                "Separated files are not supported with shards in archive output");
+
+        Context conversionContext = context.forConversion();
+        // The shard workers don't write separated files, so they don't need the archive root
+        try (ShardRendering shardRendering = renderShards(conversionContext, null)) {
+            List<MarkupDocumentBuilder> documentBuilders = documentBuilders(conversionContext, ARCHIVE_ROOT, shardRendering);
+            for (MarkupDocumentBuilder documentBuilder : documentBuilders) {
+                documentBuilder.withArchive(archiveWriter);
+            }
+            final List<String> documentNames = documentNames();
+            buildDocuments(documentBuilders, (documentIndex, document) -> {
+                try {
+                    archiveWriter.addEntry(withFileExtension(documentNames.get(documentIndex)), document.toString());
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to write archive", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Renders a single path operation, as it is rendered in the paths document.<br>
+     * Operations of the same converter can be rendered concurrently, each rendering uses its own extension instances,
+     * see {@link Swagger2MarkupExtensionRegistry#newWorkerRegistry}. Separated operation files are not written.
+     *
+     * @param method the HTTP method of the operation, e.g. {@code GET}
+     * @param path   the path of the operation, e.g. {@code /pets}
+     * @return the rendered operation
+     * @throws OperationNotFoundException if the Swagger specification does not contain the operation
+     */
+    public String toOperationString(String method, String path) {
+        Validate.notBlank(method, "method must not be blank");
+        Validate.notBlank(path, "path must not be blank");
+
+        String operationKey = method.toUpperCase() + " " + path;
+        for (PathOperation operation : ShardUtils.toPathOperations(context.swagger.getPaths())) {
+            if (ShardUtils.operationKey(operation).equals(operationKey)) {
+                Context conversionContext = context.forConversion();
+                return new PathsDocumentBuilder(conversionContext, extensionRegistry.newWorkerRegistry(conversionContext), null)
+                        .buildOperationFragment(operation);
+            }
+        }
+        throw new OperationNotFoundException(String.format("Operation '%s' not found", operationKey));
+    }
+
+    /**
+     * Asynchronously converts the Swagger specification into the given {@code outputDirectory}.<br>
+     * Each document is built and written by its own stage, on the executor of the converter.
+     *
+     * @param outputDirectory the output directory path
+     * @return a future completed when all documents are written, with the number of files written, skipped and deleted
+     * if write-if-changed is enabled, null otherwise
+     * @see #toFolder(Path)
+     */
+    public CompletableFuture<PublishResult> toFolderAsync(final Path outputDirectory) {
+        Validate.notNull(outputDirectory, "outputDirectory must not be null");
+
+        final Context conversionContext = context.forConversion();
+        if (conversionContext.isCancellable() || context.config.isWriteIfChangedEnabled()) {
+            final Path stagingDirectory = StagingUtils.createStagingDirectory(outputDirectory);
+            return toFolderAsync(conversionContext, stagingDirectory).whenComplete((v, failure) -> {
+                if (failure != null)
+                    StagingUtils.deleteQuietly(stagingDirectory);
+            }).thenApply(v -> publishDirectory(stagingDirectory, outputDirectory));
+        } else {
+            return toFolderAsync(conversionContext, outputDirectory).thenApply(v -> (PublishResult) null);
+        }
+    }
+
+    private CompletableFuture<Void> toFolderAsync(Context conversionContext, final Path outputDirectory) {
+        List<CompletableFuture<MarkupDocument>> documentFutures = buildDocumentsAsync(conversionContext, outputDirectory);
+        final List<String> documentNames = documentNames();
+        List<CompletableFuture<Void>> writeFutures = new ArrayList<>();
+        for (int i = 0; i < documentFutures.size(); i++) {
+            final String documentName = documentNames.get(i);
+            writeFutures.add(documentFutures.get(i).thenAccept(document -> document.writeToFile(outputDirectory.resolve(documentName), StandardCharsets.UTF_8)));
+        }
+        return CompletableFuture.allOf(writeFutures.toArray(new CompletableFuture<?>[writeFutures.size()]));
+    }
+
+    /**
+     * Asynchronously converts the Swagger specification the given {@code outputFile}.<br>
+     * An extension identifying the markup language will be automatically added to file name.
+     *
+     * @param outputFile the output file
+     * @return a future completed when the file is written
+     */
+    public CompletableFuture<Void> toFileAsync(final Path outputFile) {
+        Validate.notNull(outputFile, "outputFile must not be null");
+
+        return toFileWithoutExtensionAsync(withFileExtension(outputFile));
+    }
+
+    /**
+     * Asynchronously converts the Swagger specification the given {@code outputFile}.<br>
+     * The documents are written into a staging file first, as by {@link #toFileWithoutExtension(Path)}.
+     *
+     * @param outputFile the output file
+     * @return a future completed when the file is written
+     */
+    public CompletableFuture<Void> toFileWithoutExtensionAsync(final Path outputFile) {
+        Validate.notNull(outputFile, "outputFile must not be null");
+
+        final Context conversionContext = context.forConversion();
+        if (context.config.getRollingFileSize() > 0) {
+            return CompletableFuture.runAsync(() -> toRollingFiles(conversionContext, outputFile), context.executor);
+        }
+        final Path stagingFile = StagingUtils.createStagingFile(outputFile);
+        final Writer writer;
+        try {
+            writer = newFileWriter(stagingFile);
+        } catch (IOException e) {
+            StagingUtils.deleteQuietly(stagingFile);
+            throw new RuntimeException(String.format("Failed to write file '%s'", outputFile), e);
+        }
+        return handleDocumentsAsync(buildDocumentsAsync(conversionContext, null), documentWriter(writer)).whenComplete((v, failure) -> {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                StagingUtils.deleteQuietly(stagingFile);
+                if (failure == null)
+                    throw new RuntimeException(String.format("Failed to write file '%s'", outputFile), e);
+                return;
+            }
+            if (failure == null)
+                StagingUtils.publishFile(stagingFile, outputFile);
+            else
+                StagingUtils.deleteQuietly(stagingFile);
+        });
+    }
+
+    /**
+     * Asynchronously builds the document and returns it as a String.
+     *
+     * @return a future of the document as a String
+     */
+    public CompletableFuture<String> toStringAsync() {
+        final StringBuilder sb = new StringBuilder();
+        return handleDocumentsAsync(buildDocumentsAsync(context.forConversion(), null), (documentIndex, document) -> sb.append(document.toString()))
+                .thenApply(v -> sb.toString());
+    }
+
+    /**
+     * Moves the files of the staging directory into the output directory. If write-if-changed is enabled,
+     * the unchanged files are not moved and the stale files are deleted.
+     *
+     * @param stagingDirectory the staging directory
+     * @param outputDirectory  the output directory
+     * @return the number of files written, skipped and deleted if write-if-changed is enabled, null otherwise
+     */
+    private PublishResult publishDirectory(Path stagingDirectory, Path outputDirectory) {
+        if (context.config.isWriteIfChangedEnabled()) {
+            PublishResult result = OutputManifest.publishIfChanged(stagingDirectory, outputDirectory);
+            if (logger.isInfoEnabled()) {
+                logger.info("Output folder '{}' updated : {}", outputDirectory, result);
+            }
+            return result;
+        } else {
+            StagingUtils.publishDirectory(stagingDirectory, outputDirectory);
+            return null;
+        }
+    }
+
+    /**
+     * Adds the extension identifying the markup language to the file name of {@code outputFile}.
+     *
+     * @param outputFile the output file
+     * @return the output file with extension
+     */
+    private Path withFileExtension(Path outputFile) {
+        return outputFile.resolveSibling(withFileExtension(outputFile.getFileName().toString()));
+    }
+
+    /**
+     * Adds the extension identifying the markup language to {@code fileName}.
+     *
+     * @param fileName the file name
+     * @return the file name with extension
+     */
+    private String withFileExtension(String fileName) {
+        return MarkupDocBuilders.documentBuilder(context.config.getMarkupLanguage(), context.config.getLineSeparator())
+                .addFileExtension(fileName);
+    }
+
+    /**
+     * Returns the overview, paths, definitions and security document names, in this order.
+     *
+     * @return the document names
+     */
+    private List<String> documentNames() {
+        return Arrays.asList(context.config.getOverviewDocument(), context.config.getPathsDocument(),
+                context.config.getDefinitionsDocument(), context.config.getSecurityDocument());
+    }
+
+    /**
+     * Renders the path operations and definitions in the shard workers, if shards are configured.
+     *
+     * @param conversionContext the context of the conversion
+     * @param outputPath        the output directory path, or null if the documents are not written into a directory
+     * @return the rendered fragments, which must be closed once the documents are built, or null if no shards are configured
+     */
+    private ShardRendering renderShards(Context conversionContext, Path outputPath) {
+        if (conversionContext.config.getShardCount() > 0)
+            return ShardRendering.render(conversionContext, extensionRegistry, outputPath, ShardWorkerMain.class);
+        return null;
+    }
+
+    private static void closeShards(ShardRendering shardRendering) {
+        if (shardRendering != null)
+            shardRendering.close();
+    }
+
+    /**
+     * Creates the overview, paths, definitions and security document builders, in this order.<br>
+     * If the path operations and definitions are rendered by the shard workers, the builders merge their fragment files.
+     *
+     * @param conversionContext the context of the conversion
+     * @param outputPath        the output directory path, or null if the documents are not written into a directory
+     * @param shardRendering    the fragments rendered by the shard workers, or null
+     * @return the document builders
+     */
+    private List<MarkupDocumentBuilder> documentBuilders(Context conversionContext, Path outputPath, ShardRendering shardRendering) {
+        PathsDocumentBuilder pathsDocumentBuilder = new PathsDocumentBuilder(conversionContext, extensionRegistry, outputPath);
+        DefinitionsDocumentBuilder definitionsDocumentBuilder = new DefinitionsDocumentBuilder(conversionContext, extensionRegistry, outputPath);
+        if (shardRendering != null) {
+            pathsDocumentBuilder.withOperationFragments(shardRendering.getOperationFragments());
+            definitionsDocumentBuilder.withDefinitionFragments(shardRendering.getDefinitionFragments());
+        }
+        return Arrays.asList(
+                new OverviewDocumentBuilder(conversionContext, extensionRegistry, outputPath),
+                pathsDocumentBuilder,
+                definitionsDocumentBuilder,
+                new SecurityDocumentBuilder(conversionContext, extensionRegistry, outputPath));
+    }
+
+    /**
+     * Streams the paths document into the {@code writer} while it is built, if streaming paths are enabled.<br>
+     * The paths document is not streamed if parallel documents are enabled, as the documents are then not built in the order they are written.
+     *
+     * @param documentBuilders the document builders
+     * @param writer           the writer into which all documents are written in order
+     * @param channel          the channel into which the writer encodes the documents in UTF-8, or null if unknown
+     * @return the document builders
+     */
+    private List<MarkupDocumentBuilder> streamingPaths(List<MarkupDocumentBuilder> documentBuilders, Writer writer, FileChannel channel) {
+        if (context.config.isStreamingPathsEnabled() && !context.config.isParallelDocumentsEnabled()) {
+            ((PathsDocumentBuilder) documentBuilders.get(PATHS_DOCUMENT_INDEX)).withStreamingOutput(writer, channel);
+        }
+        return documentBuilders;
+    }
+
+    /**
+     * Streams the paths document into its own file while it is built.
+     *
+     * @param pathsDocumentBuilder the paths document builder
+     * @param documentFile         the paths document file, with extension
+     */
+    private void streamPathsDocument(PathsDocumentBuilder pathsDocumentBuilder, Path documentFile) {
+        try {
+            Files.createDirectories(documentFile.getParent());
+            try (FileChannel channel = newFileChannel(documentFile);
+                 Writer writer = newFileWriter(channel)) {
+                pathsDocumentBuilder.withStreamingOutput(writer, channel);
+                documentWriter(writer).handle(PATHS_DOCUMENT_INDEX, buildDocument(pathsDocumentBuilder));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to write file '%s'", documentFile), e);
+        }
+    }
+
+    /**
+     * Builds the documents and passes them in order to the {@code documentHandler}.<br>
+     * If parallel documents are enabled, all documents are built concurrently before being handled.
+     * Otherwise each document is handled as soon as it is built.
+     *
+     * @param documentBuilders the document builders
+     * @param documentHandler  the handler of the built documents
+     */
+    private void buildDocuments(List<MarkupDocumentBuilder> documentBuilders, DocumentHandler documentHandler) {
+        if (context.config.isParallelDocumentsEnabled()) {
+            List<Callable<MarkupDocument>> documentTasks = new ArrayList<>();
+            for (MarkupDocumentBuilder documentBuilder : documentBuilders) {
+                documentTasks.add(documentBuilder::build);
+            }
+            List<MarkupDocument> documents = ConcurrentUtils.invokeAll(context.executor, documentParallelism(documentTasks.size()), documentTasks);
+            for (int i = 0; i < documents.size(); i++) {
+                documentHandler.handle(i, documents.get(i));
+            }
+        } else {
+            for (int i = 0; i < documentBuilders.size(); i++) {
+                // The document builder is released once its document is handled
+                MarkupDocumentBuilder documentBuilder = documentBuilders.set(i, null);
+                documentHandler.handle(i, buildDocument(documentBuilder));
+            }
+        }
+    }
+
+    /**
+     * Builds each document in its own stage, on the executor of the converter.<br>
+     * The first stage renders the path operations and definitions in the shard workers, if shards are configured, and creates the
+     * document builders, so that the caller is not blocked by the shard workers. If parallel documents are enabled, all document stages
+     * start once the first stage is completed. Otherwise each stage starts when the previous one is completed.
+     * The fragments rendered by the shard workers are deleted once all documents are built.
+     *
+     * @param conversionContext the context of the conversion
+     * @param outputPath        the output directory path, or null if the documents are not written into a directory
+     * @return the futures of the built documents, in the order of the document names
+     */
+    private List<CompletableFuture<MarkupDocument>> buildDocumentsAsync(final Context conversionContext, final Path outputPath) {
+        final CompletableFuture<ShardRendering> shardsFuture = CompletableFuture.supplyAsync(() -> renderShards(conversionContext, outputPath), context.executor);
+        final CompletableFuture<List<MarkupDocumentBuilder>> buildersFuture = shardsFuture.thenApply(shardRendering -> documentBuilders(conversionContext, outputPath, shardRendering));
+        List<CompletableFuture<MarkupDocument>> documentFutures = new ArrayList<>();
+        CompletableFuture<?> previousFuture = buildersFuture;
+        for (int i = 0; i < documentNames().size(); i++) {
+            final int documentIndex = i;
+            CompletableFuture<MarkupDocument> documentFuture;
+            if (context.config.isParallelDocumentsEnabled())
+                documentFuture = buildersFuture.thenApplyAsync(documentBuilders -> buildDocument(documentBuilders.get(documentIndex)), context.executor);
+            else
+                // The document builder is released once its document is built
+                documentFuture = previousFuture.thenApplyAsync(previous -> buildDocument(buildersFuture.join().set(documentIndex, null)), context.executor);
+            documentFutures.add(documentFuture);
+            previousFuture = documentFuture;
+        }
+        CompletableFuture.allOf(documentFutures.toArray(new CompletableFuture<?>[documentFutures.size()]))
+                .whenComplete((v, failure) -> shardsFuture.thenAccept(Swagger2MarkupConverter::closeShards));
+        return documentFutures;
+    }
+
+    /**
+     * Passes the built documents in order to the {@code documentHandler}, each one as soon as it and its predecessors are handled.
+     *
+     * @param documentFutures the futures of the built documents
+     * @param documentHandler the handler of the built documents
+     * @return a future completed when all documents are handled
+     */
+    private CompletableFuture<Void> handleDocumentsAsync(List<CompletableFuture<MarkupDocument>> documentFutures, final DocumentHandler documentHandler) {
+        CompletableFuture<Void> handledFuture = CompletableFuture.completedFuture(null);
+        for (int i = 0; i < documentFutures.size(); i++) {
+            final int documentIndex = i;
+            handledFuture = handledFuture.thenCombine(documentFutures.get(i), (handled, document) -> {
+                documentHandler.handle(documentIndex, document);
+                return null;
+            });
+        }
+        return handledFuture;
+    }
+
+    private static Writer newFileWriter(Path file) throws IOException {
+        return Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+    }
+
+    private static FileChannel newFileChannel(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Returns a buffered writer encoding in UTF-8 into the {@code channel}.<br>
+     * Once the writer is flushed, fragments can be transferred directly into the channel.
+     *
+     * @param channel the channel
+     * @return the writer
+     */
+    private static Writer newFileWriter(FileChannel channel) {
+        return Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1);
+    }
+
+    /**
+     * Returns a document handler writing each document into the {@code writer} and flushing it.
+     *
+     * @param writer the writer
+     * @return the document handler
+     */
+    private static DocumentHandler documentWriter(final Writer writer) {
+        return (documentIndex, document) -> {
+            try {
+                writer.write(document.toString());
+                writer.flush();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to write document", e);
+            }
+        };
+    }
+
+    private MarkupDocument buildDocument(MarkupDocumentBuilder documentBuilder) {
+        try {
+            return documentBuilder.build();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to build document", e);
+        }
+    }
+
+    private int documentParallelism(int documentCount) {
+        return context.config.isParallelDocumentsEnabled() ? Math.min(documentCount, context.parallelism) : 1;
+    }
+
+    /**
+     * Handles a built document.
+     */
+    private interface DocumentHandler {
+
+        /**
+         * @param documentIndex the index of the document, starting from 0
+         * @param document      the built document
+         */
+        void handle(int documentIndex, MarkupDocument document);
+    }
+
     public static class Builder {
         private final Swagger swagger;
         private final URI swaggerLocation;
         private Swagger2MarkupConfig config;
         private Swagger2MarkupExtensionRegistry extensionRegistry;
+        private ExecutorService executor;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private CancellationToken cancellationToken;
+        private long timeoutNanos;
 
         /**
          * Creates a Builder from a remote URL.
@@ -264,7 +954,7 @@ public class Swagger2MarkupConverter {
          */
         Builder(Path swaggerPath) {
             this.swaggerLocation = swaggerPath.toAbsolutePath().toUri();
-            this.swagger = readSwagger(swaggerPath.toString());
+            this.swagger = readSwagger(swaggerPath);
         }
 
         /**
@@ -291,6 +981,33 @@ public class Swagger2MarkupConverter {
             return swagger;
         }
 
+        /**
+         * Reads a local Swagger source straight from the file, memory-mapped if possible, into the SwaggerParser.<br>
+         * A source which references other documents, or which is not a Swagger 2.0 source, is read by the SwaggerParser
+         * from its location instead, so that the references are resolved relative to this location.
+         *
+         * @param swaggerPath the local Path of the Swagger source
+         * @return the Swagger model
+         */
+        private Swagger readSwagger(Path swaggerPath) {
+            JsonNode swaggerTree;
+            try {
+                swaggerTree = SwaggerSourceUtils.readTree(swaggerPath);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Failed to read the Swagger source", e);
+            } catch (IOException e) {
+                throw new RuntimeException(String.format("Failed to read the Swagger source '%s'", swaggerPath), e);
+            }
+            if (!SwaggerSourceUtils.isSelfContained(swaggerTree)) {
+                return readSwagger(swaggerPath.toString());
+            }
+            Swagger swagger = new SwaggerParser().read(swaggerTree, true);
+            if (swagger == null) {
+                throw new IllegalArgumentException("Failed to read the Swagger source");
+            }
+            return swagger;
+        }
+
         public Builder withConfig(Swagger2MarkupConfig config) {
             Validate.notNull(config, "config must not be null");
             this.config = config;
@@ -303,6 +1020,65 @@ public class Swagger2MarkupConverter {
             return this;
         }
 
+        /**
+         * Runs every parallel rendering stage on the given executor instead of the common fork-join pool.<br>
+         * The executor is not shut down by the converter. On JVMs supporting them, an executor creating a virtual thread per task can be used.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder withExecutor(ExecutorService executor) {
+            Validate.notNull(executor, "executor must not be null");
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Limits the number of tasks each parallel rendering stage runs at the same time. Defaults to the number of available processors.
+         *
+         * @param parallelism the maximum number of tasks running at the same time
+         * @return this builder
+         */
+        public Builder withParallelism(int parallelism) {
+            Validate.isTrue(parallelism > 0, "parallelism must be greater than 0");
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Stops the conversions as soon as the given token is cancelled.<br>
+         * A stopped conversion throws a {@link ConversionCancelledException} and leaves no partially written output files.
+         *
+         * @param cancellationToken the cancellation token
+         * @return this builder
+         */
+        public Builder withCancellationToken(CancellationToken cancellationToken) {
+            Validate.notNull(cancellationToken, "cancellationToken must not be null");
+            this.cancellationToken = cancellationToken;
+            return this;
+        }
+
+        /**
+         * Stops each conversion which takes longer than the given timeout.<br>
+         * A stopped conversion throws a {@link ConversionCancelledException} and leaves no partially written output files.
+         *
+         * @param timeout the maximum duration of a conversion
+         * @param unit    the unit of the timeout
+         * @return this builder
+         */
+        public Builder withTimeout(long timeout, TimeUnit unit) {
+            Validate.isTrue(timeout > 0, "timeout must be greater than 0");
+            Validate.notNull(unit, "unit must not be null");
+            this.timeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        /**
+         * Builds a converter. The SwaggerModelExtensions are applied to a copy-on-write view of the Swagger model,
+         * so that the same Swagger model can feed several converters with different configurations or extensions.
+         *
+         * @return a Swagger2MarkupConverter
+         */
         public Swagger2MarkupConverter build() {
             if (config == null)
                 config = new Swagger2MarkupConfigBuilder().build();
@@ -310,11 +1086,19 @@ public class Swagger2MarkupConverter {
             if (extensionRegistry == null)
                 extensionRegistry = new Swagger2MarkupExtensionRegistryBuilder().build();
 
-            Context context = new Context(config, swagger, swaggerLocation);
+            if (executor == null)
+                executor = ForkJoinPool.commonPool();
+
+            Swagger swaggerView = extensionRegistry.getSwaggerModelExtensions().isEmpty() ? swagger : SwaggerUtils.copyOnWriteView(swagger);
+            Context context = new Context(config, swaggerView, swaggerLocation, executor, parallelism, cancellationToken, timeoutNanos);
 
             initExtensions(context);
 
             applySwaggerExtensions(context);
+            if (swaggerView != swagger) {
+                // The documents are built concurrently from the view, which must no longer copy on access
+                SwaggerUtils.sealView(context.getSwagger());
+            }
 
             return new Swagger2MarkupConverter(context, extensionRegistry);
         }
@@ -347,11 +1131,44 @@ public class Swagger2MarkupConverter {
         private Swagger2MarkupConfig config;
         private Swagger swagger;
         private URI swaggerLocation;
+        private ExecutorService executor;
+        private int parallelism;
+        private CancellationToken cancellationToken;
+        private long timeoutNanos;
+        private long deadlineNanos;
 
-        Context(Swagger2MarkupConfig config, Swagger swagger, URI swaggerLocation) {
+        Context(Swagger2MarkupConfig config, Swagger swagger, URI swaggerLocation, ExecutorService executor, int parallelism,
+                CancellationToken cancellationToken, long timeoutNanos) {
             this.config = config;
             this.swagger = swagger;
             this.swaggerLocation = swaggerLocation;
+            this.executor = executor;
+            this.parallelism = parallelism;
+            this.cancellationToken = cancellationToken;
+            this.timeoutNanos = timeoutNanos;
+        }
+
+        /**
+         * Creates the context of a single conversion, whose deadline starts now.
+         *
+         * @return the context of the conversion
+         */
+        Context forConversion() {
+            if (timeoutNanos <= 0)
+                return this;
+
+            Context conversionContext = new Context(config, swagger, swaggerLocation, executor, parallelism, cancellationToken, timeoutNanos);
+            conversionContext.deadlineNanos = System.nanoTime() + timeoutNanos;
+            return conversionContext;
+        }
+
+        /**
+         * Returns true if the conversion can be stopped by a cancellation token or a timeout
+         *
+         * @return true if the conversion can be stopped
+         */
+        boolean isCancellable() {
+            return cancellationToken != null || timeoutNanos > 0;
         }
 
         public Swagger2MarkupConfig getConfig() {
@@ -365,6 +1182,36 @@ public class Swagger2MarkupConverter {
         public URI getSwaggerLocation() {
             return swaggerLocation;
         }
+
+        /**
+         * Returns the executor of the parallel rendering stages
+         *
+         * @return the executor
+         */
+        public ExecutorService getExecutor() {
+            return executor;
+        }
+
+        /**
+         * Returns the maximum number of tasks each parallel rendering stage runs at the same time
+         *
+         * @return the parallelism
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Stops the conversion if its cancellation token is cancelled or if its deadline is exceeded.
+         *
+         * @throws ConversionCancelledException if the conversion must be stopped
+         */
+        public void checkNotCancelled() {
+            if (cancellationToken != null && cancellationToken.isCancelled())
+                throw new ConversionCancelledException("Conversion was cancelled");
+            if (deadlineNanos != 0 && System.nanoTime() - deadlineNanos > 0)
+                throw new ConversionCancelledException("Conversion deadline exceeded");
+        }
     }
 
 }
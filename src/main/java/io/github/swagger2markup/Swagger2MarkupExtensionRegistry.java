@@ -52,4 +52,17 @@ public interface Swagger2MarkupExtensionRegistry {
      * @return registered extensions extending PathsDocumentExtension extension point
      */
     List<PathsDocumentExtension> getPathsDocumentExtensions();
+
+    /**
+     * Returns the extensions to apply in one thread of a parallel rendering stage.<br>
+     * The default implementation returns this registry, so all its extensions must be thread-safe.
+     *
+     * @param globalContext the context of the conversion, used to initialize new extension instances
+     * @return a registry sharing the thread-safe extensions, with new instances of the other extensions
+     * @see ThreadSafeExtension
+     * @see ExtensionFactory
+     */
+    default Swagger2MarkupExtensionRegistry newWorkerRegistry(Swagger2MarkupConverter.Context globalContext) {
+        return this;
+    }
 }
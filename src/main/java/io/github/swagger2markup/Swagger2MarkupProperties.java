@@ -62,6 +62,21 @@ public class Swagger2MarkupProperties {
     public static final String PROPERTY_ORDER_BY = PROPERTIES_PREFIX + ".propertyOrderBy";
     public static final String RESPONSE_ORDER_BY = PROPERTIES_PREFIX + ".responseOrderBy";
     public static final String LINE_SEPARATOR = PROPERTIES_PREFIX + ".lineSeparator";
+    public static final String PARALLEL_DOCUMENTS_ENABLED = PROPERTIES_PREFIX + ".parallelDocumentsEnabled";
+    public static final String PARALLEL_OPERATIONS_ENABLED = PROPERTIES_PREFIX + ".parallelOperationsEnabled";
+    public static final String PARALLEL_DEFINITIONS_ENABLED = PROPERTIES_PREFIX + ".parallelDefinitionsEnabled";
+    public static final String PARALLEL_TAGS_ENABLED = PROPERTIES_PREFIX + ".parallelTagsEnabled";
+    public static final String SHARD_COUNT = PROPERTIES_PREFIX + ".shardCount";
+    public static final String SHARD_BY = PROPERTIES_PREFIX + ".shardBy";
+    public static final String STREAMING_PATHS_ENABLED = PROPERTIES_PREFIX + ".streamingPathsEnabled";
+    public static final String FRAGMENT_MEMORY_BUDGET = PROPERTIES_PREFIX + ".fragmentMemoryBudget";
+    public static final String SEPARATED_FILE_WRITER_THREADS = PROPERTIES_PREFIX + ".separatedFileWriterThreads";
+    public static final String WRITE_IF_CHANGED_ENABLED = PROPERTIES_PREFIX + ".writeIfChangedEnabled";
+    public static final String ROLLING_FILE_SIZE = PROPERTIES_PREFIX + ".rollingFileSize";
+    public static final String SEPARATED_TAGS_ENABLED = PROPERTIES_PREFIX + ".separatedTagsEnabled";
+    public static final String SEPARATED_TAGS_FOLDER = PROPERTIES_PREFIX + ".separatedTagsFolder";
+    public static final String DEFINITIONS_GROUPED_BY = PROPERTIES_PREFIX + ".definitionsGroupedBy";
+    public static final String DEFINITION_GROUP_KEY = PROPERTIES_PREFIX + ".definitionGroupKey";
 
     /**
      * Prefix for Swagger2Markup extension properties
@@ -140,6 +155,30 @@ public class Swagger2MarkupProperties {
         throw new IllegalStateException(String.format("required key [%s] not found", key));
     }
 
+    /**
+     * Returns an optional Long property value associated with the given key.
+     * @param key the property name to resolve
+     *
+     * @return An optional Long property
+     */
+    public Optional<Long> getLong(String key){
+        return Optional.ofNullable(configuration.getLong(key, null));
+    }
+
+    /**
+     * Return the long property value associated with the given key (never {@code null}).
+     * @throws IllegalStateException if the key cannot be resolved
+     *
+     * @return The long property
+     */
+    public long getRequiredLong(String key){
+        Optional<Long> value = getLong(key);
+        if(value.isPresent()){
+            return value.get();
+        }
+        throw new IllegalStateException(String.format("required key [%s] not found", key));
+    }
+
     /**
      * Return the boolean property value associated with the given key (never {@code null}).
      * @throws IllegalStateException if the key cannot be resolved
@@ -280,6 +319,18 @@ public class Swagger2MarkupProperties {
         return GroupBy.valueOf(configuration.getString(key));
     }
 
+    /**
+     * Return the DefinitionGroupBy property value associated with the given key, or
+     * {@code defaultValue} if the key cannot be resolved.
+     * @param key the property name to resolve
+     * @throws IllegalStateException if the value cannot be mapped to the enum
+     *
+     * @return The DefinitionGroupBy property
+     */
+    public DefinitionGroupBy getDefinitionGroupBy(String key){
+        return DefinitionGroupBy.valueOf(configuration.getString(key));
+    }
+
     /**
      * Return the OrderBy property value associated with the given key, or
      * {@code defaultValue} if the key cannot be resolved.
@@ -292,6 +343,18 @@ public class Swagger2MarkupProperties {
         return OrderBy.valueOf(configuration.getString(key));
     }
 
+    /**
+     * Return the ShardBy property value associated with the given key, or
+     * {@code defaultValue} if the key cannot be resolved.
+     * @param key the property name to resolve
+     * @throws IllegalStateException if the value cannot be mapped to the enum
+     *
+     * @return The ShardBy property
+     */
+    public ShardBy getShardBy(String key){
+        return ShardBy.valueOf(configuration.getString(key));
+    }
+
     /**
      * Return the String property value associated with the given key (never {@code null}).
      * @throws IllegalStateException if the key cannot be resolved
@@ -122,6 +122,21 @@ public class Swagger2MarkupConfigBuilder  {
         config.parameterOrderBy = swagger2MarkupProperties.getOrderBy(PARAMETER_ORDER_BY);
         config.propertyOrderBy = swagger2MarkupProperties.getOrderBy(PROPERTY_ORDER_BY);
         config.responseOrderBy = swagger2MarkupProperties.getOrderBy(RESPONSE_ORDER_BY);
+        config.parallelDocumentsEnabled = swagger2MarkupProperties.getRequiredBoolean(PARALLEL_DOCUMENTS_ENABLED);
+        config.parallelOperationsEnabled = swagger2MarkupProperties.getRequiredBoolean(PARALLEL_OPERATIONS_ENABLED);
+        config.parallelDefinitionsEnabled = swagger2MarkupProperties.getRequiredBoolean(PARALLEL_DEFINITIONS_ENABLED);
+        config.parallelTagsEnabled = swagger2MarkupProperties.getRequiredBoolean(PARALLEL_TAGS_ENABLED);
+        config.shardCount = swagger2MarkupProperties.getRequiredInt(SHARD_COUNT);
+        config.shardBy = swagger2MarkupProperties.getShardBy(SHARD_BY);
+        config.streamingPathsEnabled = swagger2MarkupProperties.getRequiredBoolean(STREAMING_PATHS_ENABLED);
+        config.fragmentMemoryBudget = swagger2MarkupProperties.getRequiredLong(FRAGMENT_MEMORY_BUDGET);
+        config.separatedFileWriterThreads = swagger2MarkupProperties.getRequiredInt(SEPARATED_FILE_WRITER_THREADS);
+        config.writeIfChangedEnabled = swagger2MarkupProperties.getRequiredBoolean(WRITE_IF_CHANGED_ENABLED);
+        config.rollingFileSize = swagger2MarkupProperties.getRequiredLong(ROLLING_FILE_SIZE);
+        config.separatedTagsEnabled = swagger2MarkupProperties.getRequiredBoolean(SEPARATED_TAGS_ENABLED);
+        config.separatedTagsFolder = swagger2MarkupProperties.getRequiredString(SEPARATED_TAGS_FOLDER);
+        config.definitionsGroupedBy = swagger2MarkupProperties.getDefinitionGroupBy(DEFINITIONS_GROUPED_BY);
+        config.definitionGroupKey = swagger2MarkupProperties.getRequiredString(DEFINITION_GROUP_KEY);
         Optional<String> lineSeparator = swagger2MarkupProperties.getString(LINE_SEPARATOR);
         if(lineSeparator.isPresent() && StringUtils.isNoneBlank(lineSeparator.get())){
             config.lineSeparator = LineSeparator.valueOf(lineSeparator.get());
@@ -490,6 +505,161 @@ public class Swagger2MarkupConfigBuilder  {
         return this;
     }
 
+    /**
+     * Build and write the overview, paths, definitions and security documents in parallel.
+     *
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withParallelDocuments() {
+        config.parallelDocumentsEnabled = true;
+        return this;
+    }
+
+    /**
+     * Render the path operations in parallel.<br>
+     * The operations are merged in the configured order, the output is identical to the sequential rendering.
+     *
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withParallelOperations() {
+        config.parallelOperationsEnabled = true;
+        return this;
+    }
+
+    /**
+     * Render the definitions in parallel.<br>
+     * The definitions are merged in the configured order, the output is identical to the sequential rendering.
+     *
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withParallelDefinitions() {
+        config.parallelDefinitionsEnabled = true;
+        return this;
+    }
+
+    /**
+     * Render the tag sections of the paths document in parallel, when paths are grouped by tags.<br>
+     * The tag sections are merged in the configured tag order, the output is identical to the sequential rendering.
+     *
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withParallelTags() {
+        config.parallelTagsEnabled = true;
+        return this;
+    }
+
+    /**
+     * Render the path operations and definitions in {@code shardCount} local worker processes, and merge their output into the paths and definitions documents.<br>
+     * Custom parameter, property and response orderings are not supported, as they can't be passed to the worker processes.
+     *
+     * @param shardCount the number of shards
+     * @param shardBy    the ShardBy enum
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withShards(int shardCount, ShardBy shardBy) {
+        Validate.isTrue(shardCount > 0, "%s must be greater than 0", "shardCount");
+        Validate.notNull(shardBy, "%s must not be null", "shardBy");
+        config.shardCount = shardCount;
+        config.shardBy = shardBy;
+        return this;
+    }
+
+    /**
+     * Stream the paths document into its output when converting into a file, a folder or a Writer.<br>
+     * Each path operation is written and released as soon as it is rendered, path operations are then rendered sequentially
+     * unless a fragment memory budget is configured.
+     * The output is identical to the buffered rendering.
+     *
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withStreamingPaths() {
+        config.streamingPathsEnabled = true;
+        return this;
+    }
+
+    /**
+     * Limits the heap size of the fragments rendered in parallel which are held until they are assembled in document order.<br>
+     * Fragments beyond this budget spill into a temporary file. When the paths document is streamed, spilled path operations are transferred
+     * from the temporary file into the output file, and path operations can then be rendered in parallel.
+     *
+     * @param fragmentMemoryBudget the fragment memory budget, in bytes
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withFragmentMemoryBudget(long fragmentMemoryBudget) {
+        Validate.isTrue(fragmentMemoryBudget > 0, "%s must be greater than 0", "fragmentMemoryBudget");
+        config.fragmentMemoryBudget = fragmentMemoryBudget;
+        return this;
+    }
+
+    /**
+     * Write the separated operation and definition files asynchronously, on the executor of the conversion, while the rendering continues.<br>
+     * At most {@code threads} files are written at the same time. The number of queued files is bounded, and every write failure is reported
+     * once the document is built.
+     *
+     * @param threads the maximum number of separated files written at the same time
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withSeparatedFileWriterThreads(int threads) {
+        Validate.isTrue(threads > 0, "%s must be greater than 0", "threads");
+        config.separatedFileWriterThreads = threads;
+        return this;
+    }
+
+    /**
+     * Only write the files whose content changed since the previous conversion into the same folder, so that the modification time of
+     * unchanged files is preserved. A manifest of the hash and size of each written file is kept in the folder, and the files of the
+     * previous conversion which are not produced anymore are deleted. Only applies to conversions into a folder.
+     *
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withWriteIfChanged() {
+        config.writeIfChangedEnabled = true;
+        return this;
+    }
+
+    /**
+     * Split a conversion into a single file into part files of about {@code rollingFileSize} bytes, and write a master file including the parts in order.<br>
+     * A part is only closed between documents, path operations and definitions once it reaches the size, so a part can exceed it by one operation or definition.
+     * Only supported with the AsciiDoc markup language.
+     *
+     * @param rollingFileSize the size of the part files, in bytes
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withRollingFileSize(long rollingFileSize) {
+        Validate.isTrue(rollingFileSize > 0, "%s must be greater than 0", "rollingFileSize");
+        config.rollingFileSize = rollingFileSize;
+        return this;
+    }
+
+    /**
+     * Write each tag section of the paths document into its own file, rendered in parallel, when paths are grouped by tags.<br>
+     * The paths document then only contains an index referencing the tag files.
+     *
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withSeparatedTags() {
+        config.separatedTagsEnabled = true;
+        return this;
+    }
+
+    /**
+     * Write the separated definitions into one file per group of definitions, rendered in parallel, instead of one file per definition.<br>
+     * With NAME_PREFIX, the group of a definition is the part of its name before the last {@code groupKey} separator, e.g. {@code com.acme} for
+     * {@code com.acme.Pet} with the '.' separator. With VENDOR_EXTENSION, the group is the value of the {@code groupKey} vendor extension of the definition.
+     * Definitions without a group are written into the {@code default} group. Only applies if separated definitions are enabled.
+     *
+     * @param definitionsGroupedBy the DefinitionGroupBy enum
+     * @param groupKey             the name separator or the vendor extension name
+     * @return this builder
+     */
+    public Swagger2MarkupConfigBuilder withDefinitionsGroupedBy(DefinitionGroupBy definitionsGroupedBy, String groupKey) {
+        Validate.notNull(definitionsGroupedBy, "%s must not be null", "definitionsGroupedBy");
+        Validate.notEmpty(groupKey, "%s must not be empty", "groupKey");
+        config.definitionsGroupedBy = definitionsGroupedBy;
+        config.definitionGroupKey = groupKey;
+        return this;
+    }
+
     static class DefaultSwagger2MarkupConfig implements Swagger2MarkupConfig{
 
         private MarkupLanguage markupLanguage;
@@ -517,6 +687,21 @@ public class Swagger2MarkupConfigBuilder  {
         private boolean flatBodyEnabled;
         private String anchorPrefix;
         private LineSeparator lineSeparator;
+        private boolean parallelDocumentsEnabled;
+        private boolean parallelOperationsEnabled;
+        private boolean parallelDefinitionsEnabled;
+        private boolean parallelTagsEnabled;
+        private int shardCount;
+        private ShardBy shardBy;
+        private boolean streamingPathsEnabled;
+        private long fragmentMemoryBudget;
+        private int separatedFileWriterThreads;
+        private boolean writeIfChangedEnabled;
+        private long rollingFileSize;
+        private boolean separatedTagsEnabled;
+        private String separatedTagsFolder;
+        private DefinitionGroupBy definitionsGroupedBy;
+        private String definitionGroupKey;
 
         private String overviewDocument;
         private String pathsDocument;
@@ -682,6 +867,81 @@ public class Swagger2MarkupConfigBuilder  {
             return lineSeparator;
         }
 
+        @Override
+        public boolean isParallelDocumentsEnabled() {
+            return parallelDocumentsEnabled;
+        }
+
+        @Override
+        public boolean isParallelOperationsEnabled() {
+            return parallelOperationsEnabled;
+        }
+
+        @Override
+        public boolean isParallelDefinitionsEnabled() {
+            return parallelDefinitionsEnabled;
+        }
+
+        @Override
+        public boolean isParallelTagsEnabled() {
+            return parallelTagsEnabled;
+        }
+
+        @Override
+        public int getShardCount() {
+            return shardCount;
+        }
+
+        @Override
+        public ShardBy getShardBy() {
+            return shardBy;
+        }
+
+        @Override
+        public boolean isStreamingPathsEnabled() {
+            return streamingPathsEnabled;
+        }
+
+        @Override
+        public long getFragmentMemoryBudget() {
+            return fragmentMemoryBudget;
+        }
+
+        @Override
+        public int getSeparatedFileWriterThreads() {
+            return separatedFileWriterThreads;
+        }
+
+        @Override
+        public boolean isWriteIfChangedEnabled() {
+            return writeIfChangedEnabled;
+        }
+
+        @Override
+        public long getRollingFileSize() {
+            return rollingFileSize;
+        }
+
+        @Override
+        public boolean isSeparatedTagsEnabled() {
+            return separatedTagsEnabled;
+        }
+
+        @Override
+        public String getSeparatedTagsFolder() {
+            return separatedTagsFolder;
+        }
+
+        @Override
+        public DefinitionGroupBy getDefinitionsGroupedBy() {
+            return definitionsGroupedBy;
+        }
+
+        @Override
+        public String getDefinitionGroupKey() {
+            return definitionGroupKey;
+        }
+
         @Override
         public Swagger2MarkupProperties getExtensionsProperties() {
             return extensionsProperties;
@@ -16,10 +16,16 @@
 
 package io.github.swagger2markup.builder;
 
+import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.Swagger2MarkupExtensionRegistry;
 import io.github.swagger2markup.spi.*;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import static java.util.ServiceLoader.load;
 import static org.apache.commons.collections4.IteratorUtils.toList;
@@ -40,6 +46,11 @@ public class Swagger2MarkupExtensionRegistryBuilder {
                 definitionsDocumentExtensions,
                 pathsDocumentExtensions,
                 securityDocumentExtensions);
+        // A service provider has a public no-arg constructor, so a new instance can be created for each rendering thread
+        registerServiceFactories(overviewDocumentExtensions);
+        registerServiceFactories(definitionsDocumentExtensions);
+        registerServiceFactories(pathsDocumentExtensions);
+        registerServiceFactories(securityDocumentExtensions);
     }
 
     public Swagger2MarkupExtensionRegistry build() {
@@ -56,21 +67,91 @@ public class Swagger2MarkupExtensionRegistryBuilder {
         return this;
     }
 
+    /**
+     * Registers an extension which is not thread-safe. The factory creates a new instance for each thread of a parallel rendering stage.
+     *
+     * @param extensionFactory the extension factory
+     * @return this builder
+     */
+    public Swagger2MarkupExtensionRegistryBuilder withOverviewDocumentExtension(ExtensionFactory<? extends OverviewDocumentExtension> extensionFactory) {
+        OverviewDocumentExtension extension = extensionFactory.newInstance();
+        context.overviewDocumentExtensions.add(extension);
+        context.extensionFactories.put(extension, extensionFactory);
+        return this;
+    }
+
     public Swagger2MarkupExtensionRegistryBuilder withDefinitionsDocumentExtension(DefinitionsDocumentExtension extension) {
         context.definitionsDocumentExtensions.add(extension);
         return this;
     }
 
+    /**
+     * Registers an extension which is not thread-safe. The factory creates a new instance for each thread of a parallel rendering stage.
+     *
+     * @param extensionFactory the extension factory
+     * @return this builder
+     */
+    public Swagger2MarkupExtensionRegistryBuilder withDefinitionsDocumentExtension(ExtensionFactory<? extends DefinitionsDocumentExtension> extensionFactory) {
+        DefinitionsDocumentExtension extension = extensionFactory.newInstance();
+        context.definitionsDocumentExtensions.add(extension);
+        context.extensionFactories.put(extension, extensionFactory);
+        return this;
+    }
+
     public Swagger2MarkupExtensionRegistryBuilder withPathsDocumentExtension(PathsDocumentExtension extension) {
         context.pathsDocumentExtensions.add(extension);
         return this;
     }
 
+    /**
+     * Registers an extension which is not thread-safe. The factory creates a new instance for each thread of a parallel rendering stage.
+     *
+     * @param extensionFactory the extension factory
+     * @return this builder
+     */
+    public Swagger2MarkupExtensionRegistryBuilder withPathsDocumentExtension(ExtensionFactory<? extends PathsDocumentExtension> extensionFactory) {
+        PathsDocumentExtension extension = extensionFactory.newInstance();
+        context.pathsDocumentExtensions.add(extension);
+        context.extensionFactories.put(extension, extensionFactory);
+        return this;
+    }
+
     public Swagger2MarkupExtensionRegistryBuilder withSecurityDocumentExtension(SecurityDocumentExtension extension) {
         context.securityDocumentExtensions.add(extension);
         return this;
     }
 
+    /**
+     * Registers an extension which is not thread-safe. The factory creates a new instance for each thread of a parallel rendering stage.
+     *
+     * @param extensionFactory the extension factory
+     * @return this builder
+     */
+    public Swagger2MarkupExtensionRegistryBuilder withSecurityDocumentExtension(ExtensionFactory<? extends SecurityDocumentExtension> extensionFactory) {
+        SecurityDocumentExtension extension = extensionFactory.newInstance();
+        context.securityDocumentExtensions.add(extension);
+        context.extensionFactories.put(extension, extensionFactory);
+        return this;
+    }
+
+    private <T> void registerServiceFactories(List<T> extensions) {
+        for (T extension : extensions) {
+            if (!(extension instanceof ThreadSafeExtension)) {
+                context.extensionFactories.put(extension, serviceFactory(extension.getClass()));
+            }
+        }
+    }
+
+    private static <T> ExtensionFactory<T> serviceFactory(final Class<T> extensionClass) {
+        return () -> {
+            try {
+                return extensionClass.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(String.format("Failed to create an instance of extension '%s'", extensionClass.getName()), e);
+            }
+        };
+    }
+
     static class DefaultSwagger2MarkupExtensionRegistry implements Swagger2MarkupExtensionRegistry{
 
         private Context context;
@@ -104,6 +185,98 @@ public class Swagger2MarkupExtensionRegistryBuilder {
             return context.pathsDocumentExtensions;
         }
 
+        /**
+         * Shares the thread-safe extensions and creates new instances of the extensions registered with a factory.
+         * The calls to the other extensions are serialized.
+         */
+        @Override
+        public Swagger2MarkupExtensionRegistry newWorkerRegistry(Swagger2MarkupConverter.Context globalContext) {
+            return new DefaultSwagger2MarkupExtensionRegistry(new Context(
+                    context.swaggerModelExtensions,
+                    workerExtensions(context.overviewDocumentExtensions, (extension, ctx) -> extension.setGlobalContext(ctx), SynchronizedOverviewDocumentExtension::new, globalContext),
+                    workerExtensions(context.definitionsDocumentExtensions, (extension, ctx) -> extension.setGlobalContext(ctx), SynchronizedDefinitionsDocumentExtension::new, globalContext),
+                    workerExtensions(context.pathsDocumentExtensions, (extension, ctx) -> extension.setGlobalContext(ctx), SynchronizedPathsDocumentExtension::new, globalContext),
+                    workerExtensions(context.securityDocumentExtensions, (extension, ctx) -> extension.setGlobalContext(ctx), SynchronizedSecurityDocumentExtension::new, globalContext)));
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> List<T> workerExtensions(List<T> extensions, BiConsumer<T, Swagger2MarkupConverter.Context> initializer,
+                                             Function<T, T> synchronizedView, Swagger2MarkupConverter.Context globalContext) {
+            List<T> workerExtensions = new ArrayList<>(extensions.size());
+            for (T extension : extensions) {
+                ExtensionFactory<?> extensionFactory = context.extensionFactories.get(extension);
+                if (extension instanceof ThreadSafeExtension) {
+                    workerExtensions.add(extension);
+                } else if (extensionFactory != null) {
+                    T workerExtension = (T) extensionFactory.newInstance();
+                    initializer.accept(workerExtension, globalContext);
+                    workerExtensions.add(workerExtension);
+                } else {
+                    workerExtensions.add(synchronizedView.apply(extension));
+                }
+            }
+            return workerExtensions;
+        }
+    }
+
+    private static class SynchronizedOverviewDocumentExtension extends OverviewDocumentExtension {
+        private final OverviewDocumentExtension extension;
+
+        SynchronizedOverviewDocumentExtension(OverviewDocumentExtension extension) {
+            this.extension = extension;
+        }
+
+        @Override
+        public void apply(OverviewDocumentExtension.Context context) {
+            synchronized (extension) {
+                extension.apply(context);
+            }
+        }
+    }
+
+    private static class SynchronizedDefinitionsDocumentExtension extends DefinitionsDocumentExtension {
+        private final DefinitionsDocumentExtension extension;
+
+        SynchronizedDefinitionsDocumentExtension(DefinitionsDocumentExtension extension) {
+            this.extension = extension;
+        }
+
+        @Override
+        public void apply(DefinitionsDocumentExtension.Context context) {
+            synchronized (extension) {
+                extension.apply(context);
+            }
+        }
+    }
+
+    private static class SynchronizedPathsDocumentExtension extends PathsDocumentExtension {
+        private final PathsDocumentExtension extension;
+
+        SynchronizedPathsDocumentExtension(PathsDocumentExtension extension) {
+            this.extension = extension;
+        }
+
+        @Override
+        public void apply(PathsDocumentExtension.Context context) {
+            synchronized (extension) {
+                extension.apply(context);
+            }
+        }
+    }
+
+    private static class SynchronizedSecurityDocumentExtension extends SecurityDocumentExtension {
+        private final SecurityDocumentExtension extension;
+
+        SynchronizedSecurityDocumentExtension(SecurityDocumentExtension extension) {
+            this.extension = extension;
+        }
+
+        @Override
+        public void apply(SecurityDocumentExtension.Context context) {
+            synchronized (extension) {
+                extension.apply(context);
+            }
+        }
     }
 
     private static class Context {
@@ -112,6 +285,7 @@ public class Swagger2MarkupExtensionRegistryBuilder {
         public final List<DefinitionsDocumentExtension> definitionsDocumentExtensions;
         public final List<PathsDocumentExtension> pathsDocumentExtensions;
         public final List<SecurityDocumentExtension> securityDocumentExtensions;
+        public final Map<Object, ExtensionFactory<?>> extensionFactories = new IdentityHashMap<>();
 
         public Context(List<SwaggerModelExtension> swaggerModelExtensions,
                        List<OverviewDocumentExtension> overviewDocumentExtensions,
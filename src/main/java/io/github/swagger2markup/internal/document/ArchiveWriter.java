@@ -0,0 +1,227 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.document;
+
+import io.github.swagger2markup.ArchiveFormat;
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes the documents and separated files of a conversion as the entries of an archive, without going through the filesystem.<br>
+ * Entries can be added concurrently, each entry is written at once. An entry can't be added twice.
+ * The entries of a zip or tar.gz archive are encoded in UTF-8, the entries of an in-memory archive are kept as is.
+ */
+public abstract class ArchiveWriter {
+
+    private final Set<String> entryNames = new HashSet<>();
+
+    /**
+     * Creates an archive writer.
+     *
+     * @param archiveFormat the archive format
+     * @param outputStream  the output stream of the archive, which is not closed
+     * @return the archive writer
+     * @throws IOException if the archive can't be started
+     */
+    public static ArchiveWriter newArchiveWriter(ArchiveFormat archiveFormat, OutputStream outputStream) throws IOException {
+        Validate.notNull(archiveFormat, "archiveFormat must not be null");
+        Validate.notNull(outputStream, "outputStream must not be null");
+        switch (archiveFormat) {
+            case ZIP:
+                return new ZipArchiveWriter(outputStream);
+            case TAR_GZ:
+                return new TarGzArchiveWriter(outputStream);
+            default:
+                throw new IllegalArgumentException("Unsupported archive format " + archiveFormat);
+        }
+    }
+
+    /**
+     * Creates an archive writer putting the entries into the given map, in the order they are added.
+     *
+     * @param entries the map of the entry contents by entry name
+     * @return the archive writer
+     */
+    public static ArchiveWriter newMemoryArchiveWriter(Map<String, CharSequence> entries) {
+        Validate.notNull(entries, "entries must not be null");
+        return new MemoryArchiveWriter(entries);
+    }
+
+    /**
+     * Adds an entry.
+     *
+     * @param name    the entry name, a relative path with '/' separators
+     * @param content the entry content
+     * @throws IOException if the entry can't be written
+     * @throws IllegalStateException if an entry with the same name was already added
+     */
+    public synchronized void addEntry(String name, String content) throws IOException {
+        Validate.notBlank(name, "name must not be blank");
+        if (!entryNames.add(name)) {
+            throw new IllegalStateException(String.format("Archive entry '%s' was already added", name));
+        }
+        writeEntry(name, content);
+    }
+
+    /**
+     * Completes the archive. The output stream is not closed.
+     *
+     * @throws IOException if the archive can't be completed
+     */
+    public abstract void finish() throws IOException;
+
+    protected abstract void writeEntry(String name, String content) throws IOException;
+
+    private static class MemoryArchiveWriter extends ArchiveWriter {
+
+        private final Map<String, CharSequence> entries;
+
+        MemoryArchiveWriter(Map<String, CharSequence> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        protected void writeEntry(String name, String content) {
+            entries.put(name, content);
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+
+    private static class ZipArchiveWriter extends ArchiveWriter {
+
+        private final ZipOutputStream zipOutputStream;
+
+        ZipArchiveWriter(OutputStream outputStream) {
+            this.zipOutputStream = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        protected void writeEntry(String name, String content) throws IOException {
+            zipOutputStream.putNextEntry(new ZipEntry(name));
+            zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+            zipOutputStream.closeEntry();
+        }
+
+        @Override
+        public synchronized void finish() throws IOException {
+            zipOutputStream.finish();
+        }
+    }
+
+    /**
+     * Writes a gzip compressed POSIX ustar archive of regular files.
+     */
+    private static class TarGzArchiveWriter extends ArchiveWriter {
+
+        private static final int BLOCK_SIZE = 512;
+        private static final int NAME_LENGTH = 100;
+        private static final int PREFIX_LENGTH = 155;
+
+        private final GZIPOutputStream gzipOutputStream;
+        private final long modificationTime = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+
+        TarGzArchiveWriter(OutputStream outputStream) throws IOException {
+            this.gzipOutputStream = new GZIPOutputStream(outputStream);
+        }
+
+        @Override
+        protected void writeEntry(String name, String content) throws IOException {
+            byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            gzipOutputStream.write(header(name, bytes.length));
+            gzipOutputStream.write(bytes);
+            int padding = (BLOCK_SIZE - bytes.length % BLOCK_SIZE) % BLOCK_SIZE;
+            gzipOutputStream.write(new byte[padding]);
+        }
+
+        @Override
+        public synchronized void finish() throws IOException {
+            // The end of the archive is marked by two empty blocks
+            gzipOutputStream.write(new byte[2 * BLOCK_SIZE]);
+            gzipOutputStream.finish();
+        }
+
+        private byte[] header(String name, long size) {
+            byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            byte[] prefixBytes = new byte[0];
+            if (nameBytes.length > NAME_LENGTH) {
+                // Long names are split on the first '/' leaving a short enough name, into a prefix and a name
+                int separator = name.indexOf('/');
+                while (separator > 0 && name.substring(separator + 1).getBytes(StandardCharsets.UTF_8).length > NAME_LENGTH) {
+                    separator = name.indexOf('/', separator + 1);
+                }
+                Validate.isTrue(separator > 0, "Entry name '%s' is too long for a tar archive", name);
+                prefixBytes = name.substring(0, separator).getBytes(StandardCharsets.UTF_8);
+                nameBytes = name.substring(separator + 1).getBytes(StandardCharsets.UTF_8);
+                Validate.isTrue(prefixBytes.length <= PREFIX_LENGTH, "Entry name '%s' is too long for a tar archive", name);
+            }
+
+            byte[] header = new byte[BLOCK_SIZE];
+            System.arraycopy(nameBytes, 0, header, 0, nameBytes.length);
+            putOctal(header, 100, 8, 0644);
+            putOctal(header, 108, 8, 0);
+            putOctal(header, 116, 8, 0);
+            putOctal(header, 124, 12, size);
+            putOctal(header, 136, 12, modificationTime);
+            header[156] = '0';
+            putString(header, 257, "ustar");
+            putString(header, 263, "00");
+            System.arraycopy(prefixBytes, 0, header, 345, prefixBytes.length);
+
+            // The checksum is computed with the checksum field filled with spaces
+            for (int i = 148; i < 156; i++) {
+                header[i] = ' ';
+            }
+            long checksum = 0;
+            for (byte b : header) {
+                checksum += b & 0xFF;
+            }
+            putOctal(header, 148, 7, checksum);
+            return header;
+        }
+
+        /**
+         * Writes a zero-padded octal number, terminated by a NUL character, into a field of {@code length} bytes.
+         */
+        private static void putOctal(byte[] header, int offset, int length, long value) {
+            String octal = Long.toOctalString(value);
+            Validate.isTrue(octal.length() < length, "Value %d is too large for a tar header field", value);
+            int padding = length - 1 - octal.length();
+            for (int i = 0; i < padding; i++) {
+                header[offset + i] = '0';
+            }
+            putString(header, offset + padding, octal);
+            header[offset + length - 1] = 0;
+        }
+
+        private static void putString(byte[] header, int offset, String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(bytes, 0, header, offset, bytes.length);
+        }
+    }
+}
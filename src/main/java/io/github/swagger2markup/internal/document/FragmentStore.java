@@ -0,0 +1,278 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.document;
+
+import io.github.swagger2markup.internal.utils.StagingUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Holds the rendered fragments of a document until they are assembled in document order.<br>
+ * Fragments are kept on the heap up to a memory budget, and spill beyond it into a temporary file, encoded in UTF-8.
+ * Spilled fragments are transferred from the temporary file to the output channel without being copied through the heap.
+ * Fragments which are already rendered into files are referenced by their file, which the store neither copies nor deletes.
+ * <p>
+ * A fragment is released once it is consumed, so that the heap size of its content is available again to the fragments added later.
+ * A fragment consumed several times is retained once for each additional use.
+ * <p>
+ * Fragments can be added concurrently. The temporary file is deleted when the store is closed.
+ */
+public class FragmentStore implements Closeable {
+
+    private final long memoryBudget;
+
+    private long heapSize;
+    private FileChannel spillChannel;
+    private Path spillFile;
+    private long spillSize;
+
+    /**
+     * Creates a store.
+     *
+     * @param memoryBudget the maximum heap size of the fragments kept on the heap, in bytes, or 0 to keep all fragments on the heap
+     */
+    public FragmentStore(long memoryBudget) {
+        Validate.isTrue(memoryBudget >= 0, "memoryBudget must not be negative");
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Adds a fragment.
+     *
+     * @param content the content of the fragment
+     * @return the fragment
+     */
+    public Fragment add(String content) {
+        Validate.notNull(content, "content must not be null");
+        long contentHeapSize = 2L * content.length();
+        synchronized (this) {
+            if (memoryBudget == 0 || heapSize + contentHeapSize <= memoryBudget) {
+                heapSize += contentHeapSize;
+                return new Fragment(content, null, 0, 0);
+            }
+        }
+        return spill(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Adds a fragment rendered into a file, encoded in UTF-8. The file is only read when the fragment is read or transferred,
+     * and must exist until then.
+     *
+     * @param file the file of the fragment
+     * @return the fragment
+     */
+    public Fragment addFile(Path file) {
+        Validate.notNull(file, "file must not be null");
+        return new Fragment(null, file, 0, 0);
+    }
+
+    /**
+     * Returns the content of a fragment.
+     *
+     * @param fragment the fragment
+     * @return the content of the fragment
+     */
+    public String read(Fragment fragment) {
+        String content = heapContent(fragment);
+        if (content != null) {
+            return content;
+        }
+        if (fragment.file != null) {
+            try {
+                return new String(Files.readAllBytes(fragment.file), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new RuntimeException(String.format("Failed to read fragment from '%s'", fragment.file), e);
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(fragment.length);
+        try {
+            while (buffer.hasRemaining()) {
+                if (spillChannel().read(buffer, fragment.position + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of file");
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to read fragment from '%s'", spillFile), e);
+        }
+        return new String(buffer.array(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the content of a fragment, encoded in UTF-8, into the {@code target} channel.
+     *
+     * @param fragment the fragment
+     * @param target   the target channel
+     * @throws IOException if the fragment can't be written
+     */
+    public void transferTo(Fragment fragment, WritableByteChannel target) throws IOException {
+        String content = heapContent(fragment);
+        if (content != null) {
+            ByteBuffer buffer = StandardCharsets.UTF_8.encode(content);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+        } else if (fragment.file != null) {
+            try (FileChannel channel = FileChannel.open(fragment.file, StandardOpenOption.READ)) {
+                transfer(channel, 0, channel.size(), target);
+            }
+        } else {
+            transfer(spillChannel(), fragment.position, fragment.length, target);
+        }
+    }
+
+    /**
+     * Retains a fragment for an additional use : the fragment must then be released once more before its content is discarded.
+     *
+     * @param fragment the fragment
+     */
+    public synchronized void retain(Fragment fragment) {
+        Validate.validState(fragment.references > 0, "Fragment was already released");
+        fragment.references++;
+    }
+
+    /**
+     * Releases a fragment after use. When the fragment is released for its last use, the content of an in-heap fragment is discarded
+     * and its heap size is available again to the fragments added later. A released fragment can't be read anymore.
+     *
+     * @param fragment the fragment
+     */
+    public synchronized void release(Fragment fragment) {
+        Validate.validState(fragment.references > 0, "Fragment was already released");
+        if (--fragment.references == 0 && fragment.content != null) {
+            heapSize -= 2L * fragment.content.length();
+            fragment.content = null;
+        }
+    }
+
+    private synchronized String heapContent(Fragment fragment) {
+        Validate.validState(fragment.references > 0, "Fragment was already released");
+        return fragment.content;
+    }
+
+    private static void transfer(FileChannel channel, long position, long length, WritableByteChannel target) throws IOException {
+        long transferred = 0;
+        while (transferred < length) {
+            transferred += channel.transferTo(position + transferred, length - transferred, target);
+        }
+    }
+
+    /**
+     * Returns the heap size of the fragments kept on the heap and not released yet.
+     *
+     * @return the heap size of the fragments, in bytes
+     */
+    public synchronized long getHeapSize() {
+        return heapSize;
+    }
+
+    /**
+     * Returns the size of the spilled fragments.
+     *
+     * @return the size of the temporary file, in bytes
+     */
+    public synchronized long getSpilledSize() {
+        return spillSize;
+    }
+
+    /**
+     * Deletes the temporary file.
+     */
+    @Override
+    public synchronized void close() {
+        if (spillChannel != null) {
+            try {
+                spillChannel.close();
+            } catch (IOException e) {
+                // The temporary file is deleted anyway
+            }
+            StagingUtils.deleteQuietly(spillFile);
+            spillChannel = null;
+        }
+    }
+
+    private Fragment spill(byte[] bytes) {
+        long position;
+        synchronized (this) {
+            try {
+                if (spillChannel == null) {
+                    spillFile = Files.createTempFile("swagger2markup-fragments-", ".tmp");
+                    spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to create fragment file", e);
+            }
+            position = spillSize;
+            spillSize += bytes.length;
+        }
+        // The region of the fragment is reserved, so that fragments can be written concurrently
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            while (buffer.hasRemaining()) {
+                spillChannel().write(buffer, position + buffer.position());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to write fragment into '%s'", spillFile), e);
+        }
+        return new Fragment(null, null, position, bytes.length);
+    }
+
+    private synchronized FileChannel spillChannel() throws IOException {
+        if (spillChannel == null) {
+            throw new IOException("Fragment store is closed");
+        }
+        return spillChannel;
+    }
+
+    /**
+     * A fragment, either kept on the heap, spilled into the temporary file of its store, or referencing the file it was rendered into.
+     */
+    public static final class Fragment {
+        private final Path file;
+        private final long position;
+        private final int length;
+        private final boolean spilled;
+
+        // Guarded by the store
+        private String content;
+        private int references = 1;
+
+        private Fragment(String content, Path file, long position, int length) {
+            this.content = content;
+            this.file = file;
+            this.position = position;
+            this.length = length;
+            this.spilled = content == null && file == null;
+        }
+
+        /**
+         * Returns true if the fragment is spilled into the temporary file of its store.
+         *
+         * @return true if the fragment is spilled
+         */
+        public boolean isSpilled() {
+            return spilled;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.document;
+
+import io.github.swagger2markup.PublishResult;
+import io.github.swagger2markup.internal.utils.StagingUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The manifest of an output directory : the SHA-256 hash and the size of each file written by the last conversion.<br>
+ * The manifest is used to publish a staging directory into the output directory without rewriting the files whose content did not change,
+ * so that their modification time is preserved, and to delete the files which are not produced anymore.
+ * <p>
+ * The manifest is stored in the output directory, one {@code <hash> <size> <relative path>} line per file.
+ * Files which are not listed in the manifest are never deleted.
+ */
+public final class OutputManifest {
+
+    public static final String MANIFEST_FILE = ".swagger2markup-manifest";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Map<String, Entry> entries = new TreeMap<>();
+
+    private OutputManifest() {
+    }
+
+    /**
+     * Moves every changed file of {@code stagingDirectory} to the same relative location in {@code outputDirectory},
+     * deletes the files of the previous manifest which are not in the staging directory, writes the new manifest
+     * and deletes the staging directory.<br>
+     * A file is unchanged if the previous manifest lists the same hash and size, and the output file still has this size.
+     *
+     * @param stagingDirectory the staging directory
+     * @param outputDirectory  the output directory
+     * @return the number of written, skipped and deleted files
+     */
+    public static PublishResult publishIfChanged(final Path stagingDirectory, final Path outputDirectory) {
+        try {
+            final OutputManifest previousManifest = read(outputDirectory);
+            final OutputManifest manifest = new OutputManifest();
+            final int[] written = {0};
+            final int[] skipped = {0};
+            int deleted = 0;
+            Files.walkFileTree(stagingDirectory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    String relativePath = toRelativePath(stagingDirectory, file);
+                    Entry entry = new Entry(hash(file), attrs.size());
+                    manifest.entries.put(relativePath, entry);
+                    Path outputFile = outputDirectory.resolve(relativePath);
+                    if (entry.equals(previousManifest.entries.get(relativePath))
+                            && Files.isRegularFile(outputFile) && Files.size(outputFile) == entry.size) {
+                        skipped[0]++;
+                    } else {
+                        Files.createDirectories(outputFile.getParent());
+                        StagingUtils.move(file, outputFile);
+                        written[0]++;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            for (String relativePath : previousManifest.entries.keySet()) {
+                if (!manifest.entries.containsKey(relativePath)) {
+                    Path staleFile = outputDirectory.resolve(relativePath);
+                    if (Files.deleteIfExists(staleFile)) {
+                        deleted++;
+                        deleteEmptyParentDirectories(staleFile, outputDirectory);
+                    }
+                }
+            }
+            manifest.write(outputDirectory);
+            return new PublishResult(written[0], skipped[0], deleted);
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to publish staging directory '%s' to '%s'", stagingDirectory, outputDirectory), e);
+        } finally {
+            StagingUtils.deleteQuietly(stagingDirectory);
+        }
+    }
+
+    private static OutputManifest read(Path outputDirectory) throws IOException {
+        OutputManifest manifest = new OutputManifest();
+        Path manifestFile = outputDirectory.resolve(MANIFEST_FILE);
+        if (Files.isRegularFile(manifestFile)) {
+            try (BufferedReader reader = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split(" ", 3);
+                    // Malformed lines are ignored, their files are written again. Paths outside of the output directory are never deleted
+                    if (fields.length == 3 && StringUtils.isNumeric(fields[1]) && isRelativePath(fields[2])) {
+                        manifest.entries.put(fields[2], new Entry(fields[0], Long.parseLong(fields[1])));
+                    }
+                }
+            }
+        }
+        return manifest;
+    }
+
+    private void write(Path outputDirectory) throws IOException {
+        Path manifestFile = outputDirectory.resolve(MANIFEST_FILE);
+        Path stagingFile = StagingUtils.createStagingFile(manifestFile);
+        try (Writer writer = Files.newBufferedWriter(stagingFile, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                writer.write(entry.getValue().hash + " " + entry.getValue().size + " " + entry.getKey() + "\n");
+            }
+        }
+        StagingUtils.publishFile(stagingFile, manifestFile);
+    }
+
+    private static String toRelativePath(Path directory, Path file) {
+        StringBuilder relativePath = new StringBuilder();
+        for (Path name : directory.relativize(file)) {
+            if (relativePath.length() > 0) {
+                relativePath.append('/');
+            }
+            relativePath.append(name.toString());
+        }
+        return relativePath.toString();
+    }
+
+    private static boolean isRelativePath(String path) {
+        return StringUtils.isNotEmpty(path) && !path.startsWith("/") && !path.contains("\\") && !Arrays.asList(path.split("/")).contains("..");
+    }
+
+    private static String hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream input = Files.newInputStream(file)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        byte[] hash = digest.digest();
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[2 * i] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+            hex[2 * i + 1] = HEX_DIGITS[hash[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    private static void deleteEmptyParentDirectories(Path file, Path outputDirectory) {
+        Path directory = file.getParent();
+        Path root = outputDirectory.toAbsolutePath().normalize();
+        while (directory != null && !directory.toAbsolutePath().normalize().equals(root)) {
+            try {
+                Files.delete(directory);
+            } catch (IOException e) {
+                // The directory is not empty
+                return;
+            }
+            directory = directory.getParent();
+        }
+    }
+
+    private static final class Entry {
+        private final String hash;
+        private final long size;
+
+        Entry(String hash, long size) {
+            this.hash = hash;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Entry)) return false;
+            Entry entry = (Entry) o;
+            return size == entry.size && hash.equals(entry.hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash.hashCode();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.document;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes a document into part files encoded in UTF-8, named {@code <name>-part-001.<extension>}, {@code <name>-part-002.<extension>}, ...<br>
+ * A part is never closed while it is written : the writer only continues into a new part when {@link #rollIfFull()} is called
+ * at a boundary of the document and the current part reached the part size. A part file is created by the first write into it,
+ * so that no empty part is created.
+ */
+public class RollingFileWriter extends Writer {
+
+    private final Path directory;
+    private final String baseName;
+    private final String extension;
+    private final long partSize;
+    private final List<Path> partFiles = new ArrayList<>();
+
+    private FileChannel partChannel;
+    private Writer partWriter;
+
+    /**
+     * Creates a writer. No part file is created until the first write.
+     *
+     * @param directory the directory of the part files
+     * @param fileName  the file name from which the part file names are derived, e.g. {@code swagger.adoc}
+     * @param partSize  the size, in bytes, from which a new part is started at the next boundary
+     */
+    public RollingFileWriter(Path directory, String fileName, long partSize) {
+        Validate.notNull(directory, "directory must not be null");
+        Validate.notBlank(fileName, "fileName must not be blank");
+        Validate.isTrue(partSize > 0, "partSize must be greater than 0");
+        this.directory = directory;
+        this.baseName = FilenameUtils.getBaseName(fileName);
+        this.extension = FilenameUtils.getExtension(fileName);
+        this.partSize = partSize;
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        if (length == 0) {
+            return;
+        }
+        if (partWriter == null) {
+            startPart();
+        }
+        partWriter.write(chars, offset, length);
+    }
+
+    @Override
+    public void write(String str, int offset, int length) throws IOException {
+        if (length == 0) {
+            return;
+        }
+        if (partWriter == null) {
+            startPart();
+        }
+        partWriter.write(str, offset, length);
+    }
+
+    /**
+     * Marks a boundary of the document : closes the current part if it reached the part size, so that the next write starts a new part.
+     *
+     * @throws IOException if the current part can't be written
+     */
+    public void rollIfFull() throws IOException {
+        if (partWriter != null) {
+            partWriter.flush();
+            if (partChannel.size() >= partSize) {
+                closePart();
+            }
+        }
+    }
+
+    /**
+     * Returns the part files created so far, in order.
+     *
+     * @return the part files
+     */
+    public List<Path> getPartFiles() {
+        return Collections.unmodifiableList(partFiles);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (partWriter != null) {
+            partWriter.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closePart();
+    }
+
+    private void startPart() throws IOException {
+        String partFileName = String.format("%s-part-%03d", baseName, partFiles.size() + 1);
+        if (!extension.isEmpty()) {
+            partFileName += "." + extension;
+        }
+        Path partFile = directory.resolve(partFileName);
+        partChannel = FileChannel.open(partFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        partWriter = Channels.newWriter(partChannel, StandardCharsets.UTF_8.newEncoder(), -1);
+        partFiles.add(partFile);
+    }
+
+    private void closePart() throws IOException {
+        if (partWriter != null) {
+            try {
+                partWriter.close();
+            } finally {
+                partChannel.close();
+                partWriter = null;
+                partChannel = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.document;
+
+import io.github.swagger2markup.ConversionCancelledException;
+import org.apache.commons.lang3.Validate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the separated operation and definition files.<br>
+ * With concurrent writes, the files are written asynchronously on the executor of the conversion, so that the rendering continues while
+ * files are written. At most {@code maxConcurrentWrites} files are written at the same time, and at most {@code QUEUE_CAPACITY_PER_WRITE}
+ * files per concurrent write are queued : beyond, a file is written synchronously by the rendering thread.
+ * Each directory is created once, by the first file written into it.<br>
+ * If an archive writer is given, the files are added to the archive instead, named by their path relative to the output root.
+ * <p>
+ * Asynchronous write failures are collected and reported together when the writer is closed.
+ * Without concurrent writes, or once the writer is closed, files are written synchronously and failures are thrown immediately.
+ */
+public class SeparatedFileWriter implements Closeable {
+
+    private static final int QUEUE_CAPACITY_PER_WRITE = 64;
+
+    private final Executor executor;
+    private final int maxConcurrentWrites;
+    private final ArchiveWriter archiveWriter;
+    private final Semaphore queueSlots;
+    private final Queue<Runnable> queuedWrites = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeWriters = new AtomicInteger();
+    private final Set<Path> createdDirectories = ConcurrentHashMap.newKeySet();
+    private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+    private int unfinishedWrites;
+    private boolean closed;
+
+    /**
+     * Creates a writer.
+     *
+     * @param executor            the executor of the conversion, running the asynchronous writes
+     * @param maxConcurrentWrites the maximum number of files written at the same time, or 0 to write the files synchronously
+     */
+    public SeparatedFileWriter(Executor executor, int maxConcurrentWrites) {
+        this(executor, maxConcurrentWrites, null);
+    }
+
+    /**
+     * Creates a writer adding the files to an archive. The files must be relative to the output root.
+     *
+     * @param executor            the executor of the conversion, running the asynchronous writes
+     * @param maxConcurrentWrites the maximum number of files written at the same time, or 0 to write the files synchronously
+     * @param archiveWriter       the archive writer, or null to write the files into the filesystem
+     */
+    public SeparatedFileWriter(Executor executor, int maxConcurrentWrites, ArchiveWriter archiveWriter) {
+        Validate.notNull(executor, "executor must not be null");
+        Validate.isTrue(maxConcurrentWrites >= 0, "maxConcurrentWrites must not be negative");
+        this.executor = executor;
+        this.maxConcurrentWrites = maxConcurrentWrites;
+        this.archiveWriter = archiveWriter;
+        this.queueSlots = new Semaphore(maxConcurrentWrites * QUEUE_CAPACITY_PER_WRITE);
+    }
+
+    /**
+     * Writes a file, replacing an existing file.
+     *
+     * @param file    the file
+     * @param content the content of the file, encoded in UTF-8
+     */
+    public void write(final Path file, final String content) {
+        // A full queue is not waited for : the queued writes may wait for the thread of the caller on the executor
+        if (maxConcurrentWrites == 0 || !queueSlots.tryAcquire()) {
+            writeFile(file, content);
+            return;
+        }
+        synchronized (this) {
+            if (closed) {
+                queueSlots.release();
+                writeFile(file, content);
+                return;
+            }
+            unfinishedWrites++;
+        }
+        queuedWrites.add(() -> {
+            try {
+                writeFile(file, content);
+            } catch (RuntimeException | Error e) {
+                failures.add(e);
+            } finally {
+                queueSlots.release();
+                writeFinished();
+            }
+        });
+        startWriter();
+    }
+
+    /**
+     * Waits for the queued files to be written. The queued files which are not being written yet are written by the current thread.
+     *
+     * @throws RuntimeException if files failed to be written, each failure is a suppressed exception
+     * @throws ConversionCancelledException if the current thread is interrupted while waiting
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        writeQueuedFiles();
+        synchronized (this) {
+            try {
+                while (unfinishedWrites > 0) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ConversionCancelledException("Conversion was cancelled");
+            }
+        }
+        if (!failures.isEmpty()) {
+            RuntimeException failure = new RuntimeException(String.format("Failed to write %d separated files", failures.size()));
+            Throwable writeFailure;
+            while ((writeFailure = failures.poll()) != null) {
+                failure.addSuppressed(writeFailure);
+            }
+            throw failure;
+        }
+    }
+
+    /**
+     * Submits a task writing the queued files to the executor, unless {@code maxConcurrentWrites} tasks are already running.
+     */
+    private void startWriter() {
+        while (true) {
+            int writers = activeWriters.get();
+            if (writers >= maxConcurrentWrites) {
+                return;
+            }
+            if (activeWriters.compareAndSet(writers, writers + 1)) {
+                try {
+                    executor.execute(this::runWriter);
+                } catch (RejectedExecutionException e) {
+                    // The executor is shut down, the queued files are written by the current thread
+                    runWriter();
+                }
+                return;
+            }
+        }
+    }
+
+    private void runWriter() {
+        try {
+            writeQueuedFiles();
+        } finally {
+            activeWriters.decrementAndGet();
+        }
+        // A file may have been queued after the queue was found empty, but before this writer stopped
+        if (!queuedWrites.isEmpty()) {
+            startWriter();
+        }
+    }
+
+    private void writeQueuedFiles() {
+        Runnable queuedWrite;
+        while ((queuedWrite = queuedWrites.poll()) != null) {
+            queuedWrite.run();
+        }
+    }
+
+    private synchronized void writeFinished() {
+        unfinishedWrites--;
+        if (unfinishedWrites == 0) {
+            notifyAll();
+        }
+    }
+
+    private void writeFile(Path file, String content) {
+        try {
+            if (archiveWriter != null) {
+                archiveWriter.addEntry(toEntryName(file), content);
+                return;
+            }
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null && !createdDirectories.contains(directory)) {
+                Files.createDirectories(directory);
+                createdDirectories.add(directory);
+            }
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to write file '%s'", file), e);
+        }
+    }
+
+    private static String toEntryName(Path file) {
+        Validate.isTrue(!file.isAbsolute(), "File '%s' must be relative to the archive root", file);
+        StringBuilder entryName = new StringBuilder();
+        for (Path name : file.normalize()) {
+            if (entryName.length() > 0) {
+                entryName.append('/');
+            }
+            entryName.append(name.toString());
+        }
+        return entryName.toString();
+    }
+}
@@ -15,9 +15,13 @@
  */
 package io.github.swagger2markup.internal.document.builder;
 
+import io.github.swagger2markup.DefinitionGroupBy;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.Swagger2MarkupExtensionRegistry;
+import io.github.swagger2markup.internal.document.FragmentStore;
+import io.github.swagger2markup.internal.document.FragmentStore.Fragment;
 import io.github.swagger2markup.internal.document.MarkupDocument;
+import io.github.swagger2markup.internal.document.SeparatedFileWriter;
 import io.github.swagger2markup.internal.type.ObjectType;
 import io.github.swagger2markup.internal.type.ObjectTypePolymorphism;
 import io.github.swagger2markup.internal.type.Type;
@@ -30,15 +34,16 @@ import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
-import java.io.File;
-import java.nio.charset.StandardCharsets;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.Callable;
 
 import static io.github.swagger2markup.internal.utils.MapUtils.toKeySet;
 import static io.github.swagger2markup.spi.DefinitionsDocumentExtension.Context;
 import static io.github.swagger2markup.spi.DefinitionsDocumentExtension.Position;
-import static io.github.swagger2markup.utils.IOUtils.normalizeName;
+import static io.github.swagger2markup.utils.IOUtils.joinPath;
 import static org.apache.commons.lang3.StringUtils.defaultString;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
@@ -58,6 +63,16 @@ public class DefinitionsDocumentBuilder extends MarkupDocumentBuilder {
     private final String TYPE_COLUMN;
     private static final List<String> IGNORED_DEFINITIONS = Collections.singletonList("Void");
 
+    /**
+     * Definitions rendered by shard workers, by definition name.
+     */
+    private Map<String, Path> definitionFragments = Collections.emptyMap();
+
+    /**
+     * True if the separated definitions are written into one file per group of definitions.
+     */
+    private final boolean groupedDefinitions;
+
     public DefinitionsDocumentBuilder(Swagger2MarkupConverter.Context context, Swagger2MarkupExtensionRegistry extensionRegistry, Path outputPath) {
         super(context, extensionRegistry, outputPath);
 
@@ -76,7 +91,9 @@ public class DefinitionsDocumentBuilder extends MarkupDocumentBuilder {
                 logger.debug("Create separated definition files is enabled.");
             }
             Validate.notNull(outputPath, "Output directory is required for separated definition files!");
+            groupedDefinitions = config.getDefinitionsGroupedBy() != DefinitionGroupBy.AS_IS;
         } else {
+            groupedDefinitions = false;
             if (logger.isDebugEnabled()) {
                 logger.debug("Create separated definition files is disabled.");
             }
@@ -91,26 +108,168 @@ public class DefinitionsDocumentBuilder extends MarkupDocumentBuilder {
     @Override
     public MarkupDocument build() {
         if (MapUtils.isNotEmpty(globalContext.getSwagger().getDefinitions())) {
-            applyDefinitionsDocumentExtension(new Context(Position.DOCUMENT_BEFORE, this.markupDocBuilder));
-            buildDefinitionsTitle(DEFINITIONS);
-            applyDefinitionsDocumentExtension(new Context(Position.DOCUMENT_BEGIN, this.markupDocBuilder));
-            buildDefinitionsSection();
-            applyDefinitionsDocumentExtension(new Context(Position.DOCUMENT_END, this.markupDocBuilder));
-            applyDefinitionsDocumentExtension(new Context(Position.DOCUMENT_AFTER, this.markupDocBuilder));
+            try (SeparatedFileWriter fileWriter = this.separatedFileWriter) {
+                applyDefinitionsDocumentExtension(new Context(Position.DOCUMENT_BEFORE, this.markupDocBuilder));
+                buildDefinitionsTitle(DEFINITIONS);
+                applyDefinitionsDocumentExtension(new Context(Position.DOCUMENT_BEGIN, this.markupDocBuilder));
+                buildDefinitionsSection();
+                applyDefinitionsDocumentExtension(new Context(Position.DOCUMENT_END, this.markupDocBuilder));
+                applyDefinitionsDocumentExtension(new Context(Position.DOCUMENT_AFTER, this.markupDocBuilder));
+            }
         }
         return new MarkupDocument(markupDocBuilder);
     }
 
     private void buildDefinitionsSection() {
         Set<String> definitionNames = toKeySet(globalContext.getSwagger().getDefinitions(), config.getDefinitionOrdering());
+        if (groupedDefinitions) {
+            buildGroupedDefinitions(definitionNames);
+        } else if (config.isParallelDefinitionsEnabled() && definitionFragments.isEmpty()) {
+            buildDefinitionsInParallel(definitionNames);
+        } else {
+            try (FragmentStore fragmentStore = newFragmentStore()) {
+                for (String definitionName : definitionNames) {
+                    Model model = globalContext.getSwagger().getDefinitions().get(definitionName);
+                    if (isNotBlank(definitionName)) {
+                        if (checkThatDefinitionIsNotInIgnoreList(definitionName)) {
+                            appendDefinition(definitionName, model, fragmentStore);
+                            if (logger.isInfoEnabled()) {
+                                logger.info("Definition processed : '{}'", definitionName);
+                            }
+                        } else {
+                            if (logger.isDebugEnabled()) {
+                                logger.debug("Definition was ignored : '{}'", definitionName);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a definition to the definitions document, using its pre-rendered fragment file if available.<br>
+     * When the definitions document is streamed, the fragment file is transferred into the streaming output.
+     *
+     * @param definitionName the definition name
+     * @param model          the definition model
+     * @param fragmentStore  the store of the pre-rendered definition fragments
+     */
+    private void appendDefinition(String definitionName, Model model, FragmentStore fragmentStore) {
+        Path definitionFragmentFile = definitionFragments.get(definitionName);
+        if (definitionFragmentFile != null) {
+            Fragment definitionFragment = fragmentStore.addFile(definitionFragmentFile);
+            if (streamingOutput != null) {
+                flushToStreamingOutput();
+                streamFragment(definitionFragment, fragmentStore);
+            } else {
+                this.markupDocBuilder.text(fragmentStore.read(definitionFragment));
+                fragmentStore.release(definitionFragment);
+            }
+        } else {
+            buildDefinitionEntry(definitionName, model, this.markupDocBuilder);
+            if (streamingOutput != null) {
+                flushToStreamingOutput();
+            }
+        }
+    }
+
+    /**
+     * Streams the definitions document into the given output while it is built : each definition is written as soon as it is rendered,
+     * and is then released. See {@link MarkupDocumentBuilder#withStreamingOutput(Writer, WritableByteChannel)}.
+     *
+     * @param streamingOutput  the output
+     * @param streamingChannel the channel into which the output encodes the document in UTF-8, or null if unknown
+     * @return this builder
+     */
+    @Override
+    public DefinitionsDocumentBuilder withStreamingOutput(Writer streamingOutput, WritableByteChannel streamingChannel) {
+        super.withStreamingOutput(streamingOutput, streamingChannel);
+        return this;
+    }
+
+    /**
+     * Uses the given pre-rendered definitions instead of rendering them again.<br>
+     * The fragment files are streamed into the definitions document when it is built, and must exist until then.
+     *
+     * @param definitionFragments the file of the rendered fragment of each definition, encoded in UTF-8, by definition name
+     * @return this builder
+     */
+    public DefinitionsDocumentBuilder withDefinitionFragments(Map<String, Path> definitionFragments) {
+        Validate.notNull(definitionFragments, "definitionFragments must not be null");
+        this.definitionFragments = definitionFragments;
+        return this;
+    }
+
+    /**
+     * Renders a single definition, as it would be added to the definitions document.<br>
+     * The separated definition file is written too if separated definitions are enabled and not grouped.
+     *
+     * @param definitionName the definition name
+     * @return the rendered definition
+     */
+    public String buildDefinitionFragment(String definitionName) {
+        Model model = globalContext.getSwagger().getDefinitions().get(definitionName);
+        Validate.notNull(model, "Definition '%s' not found", definitionName);
+        MarkupDocBuilder definitionDocBuilder = copyMarkupDocBuilder();
+        buildDefinitionEntry(definitionName, model, definitionDocBuilder);
+        return definitionDocBuilder.toString();
+    }
+
+    /**
+     * Renders each definition into its own fragment, in parallel, and appends the fragments in definition order.<br>
+     * The fragments are held by a fragment store until they are appended, so that they spill to disk beyond the fragment memory budget.
+     *
+     * @param definitionNames the ordered definition names
+     */
+    private void buildDefinitionsInParallel(Set<String> definitionNames) {
+        try (final FragmentStore fragmentStore = newFragmentStore()) {
+            List<Callable<Fragment>> definitionTasks = new ArrayList<>();
+            for (final String definitionName : definitionNames) {
+                if (isNotBlank(definitionName)) {
+                    if (checkThatDefinitionIsNotInIgnoreList(definitionName)) {
+                        final Model model = globalContext.getSwagger().getDefinitions().get(definitionName);
+                        definitionTasks.add(() -> {
+                            MarkupDocBuilder definitionDocBuilder = copyMarkupDocBuilder();
+                            buildDefinitionEntry(definitionName, model, definitionDocBuilder);
+                            if (logger.isInfoEnabled()) {
+                                logger.info("Definition processed : '{}'", definitionName);
+                            }
+                            return fragmentStore.add(definitionDocBuilder.toString());
+                        });
+                    } else {
+                        if (logger.isDebugEnabled()) {
+                            logger.debug("Definition was ignored : '{}'", definitionName);
+                        }
+                    }
+                }
+            }
+            for (Fragment definitionFragment : invokeAll(definitionTasks)) {
+                if (streamingOutput != null) {
+                    flushToStreamingOutput();
+                    streamFragment(definitionFragment, fragmentStore);
+                } else {
+                    this.markupDocBuilder.text(fragmentStore.read(definitionFragment));
+                    fragmentStore.release(definitionFragment);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the definitions of each group into the separated file of the group, the groups being rendered in parallel,
+     * then builds a cross-reference to each definition in definition order.
+     *
+     * @param definitionNames the ordered definition names
+     */
+    private void buildGroupedDefinitions(Set<String> definitionNames) {
+        List<String> groupedDefinitionNames = new ArrayList<>();
+        Map<String, List<String>> definitionGroups = new LinkedHashMap<>();
         for (String definitionName : definitionNames) {
-            Model model = globalContext.getSwagger().getDefinitions().get(definitionName);
             if (isNotBlank(definitionName)) {
                 if (checkThatDefinitionIsNotInIgnoreList(definitionName)) {
-                    buildDefinition(definitionName, model);
-                    if (logger.isInfoEnabled()) {
-                        logger.info("Definition processed : '{}'", definitionName);
-                    }
+                    groupedDefinitionNames.add(definitionName);
+                    definitionGroups.computeIfAbsent(resolveDefinitionGroup(definitionName), group -> new ArrayList<>()).add(definitionName);
                 } else {
                     if (logger.isDebugEnabled()) {
                         logger.debug("Definition was ignored : '{}'", definitionName);
@@ -118,6 +277,32 @@ public class DefinitionsDocumentBuilder extends MarkupDocumentBuilder {
                 }
             }
         }
+        List<Callable<Void>> groupTasks = new ArrayList<>();
+        for (final List<String> groupDefinitionNames : definitionGroups.values()) {
+            groupTasks.add(() -> {
+                MarkupDocBuilder groupDocBuilder = copyMarkupDocBuilder();
+                for (String definitionName : groupDefinitionNames) {
+                    globalContext.checkNotCancelled();
+                    buildDefinition(definitionName, globalContext.getSwagger().getDefinitions().get(definitionName), groupDocBuilder);
+                    if (logger.isInfoEnabled()) {
+                        logger.info("Definition processed : '{}'", definitionName);
+                    }
+                }
+                Path groupFile = outputPath.resolve(resolveDefinitionDocument(groupDefinitionNames.get(0)));
+                writeSeparatedFile(groupDocBuilder, groupFile);
+                if (logger.isInfoEnabled()) {
+                    logger.info("Separate definition group file produced : '{}'", groupFile);
+                }
+                return null;
+            });
+        }
+        invokeAll(groupTasks);
+        for (String definitionName : groupedDefinitionNames) {
+            definitionRef(definitionName, this.markupDocBuilder);
+            if (streamingOutput != null) {
+                flushToStreamingOutput();
+            }
+        }
     }
 
     private void buildDefinitionsTitle(String title) {
@@ -130,7 +315,7 @@ public class DefinitionsDocumentBuilder extends MarkupDocumentBuilder {
      * @param context context
      */
     private void applyDefinitionsDocumentExtension(Context context) {
-        for (DefinitionsDocumentExtension extension : extensionRegistry.getDefinitionsDocumentExtensions()) {
+        for (DefinitionsDocumentExtension extension : getExtensionRegistry().getDefinitionsDocumentExtensions()) {
             extension.apply(context);
         }
     }
@@ -143,7 +328,7 @@ public class DefinitionsDocumentBuilder extends MarkupDocumentBuilder {
      */
     private String resolveDefinitionDocument(String definitionName) {
         if (config.isSeparatedDefinitionsEnabled())
-            return new File(config.getSeparatedDefinitionsFolder(), markupDocBuilder.addFileExtension(normalizeName(definitionName))).getPath();
+            return joinPath(config.getSeparatedDefinitionsFolder(), markupDocBuilder.addFileExtension(resolveDefinitionFileName(definitionName)));
         else
             return markupDocBuilder.addFileExtension(config.getDefinitionsDocument());
     }
@@ -153,22 +338,27 @@ public class DefinitionsDocumentBuilder extends MarkupDocumentBuilder {
      *
      * @param definitionName definition name to process
      * @param model          definition model to process
+     * @param definitionsDocBuilder the docbuilder of the definitions document, or of the definition fragment
      */
-    private void buildDefinition(String definitionName, Model model) {
+    private void buildDefinitionEntry(String definitionName, Model model, MarkupDocBuilder definitionsDocBuilder) {
+        globalContext.checkNotCancelled();
 
-        if (config.isSeparatedDefinitionsEnabled()) {
+        if (groupedDefinitions) {
+            // The group files are written by buildGroupedDefinitions
+            definitionRef(definitionName, definitionsDocBuilder);
+        } else if (config.isSeparatedDefinitionsEnabled()) {
             MarkupDocBuilder defDocBuilder = copyMarkupDocBuilder();
             buildDefinition(definitionName, model, defDocBuilder);
             Path definitionFile = outputPath.resolve(resolveDefinitionDocument(definitionName));
-            defDocBuilder.writeToFileWithoutExtension(definitionFile, StandardCharsets.UTF_8);
+            writeSeparatedFile(defDocBuilder, definitionFile);
             if (logger.isInfoEnabled()) {
                 logger.info("Separate definition file produced : '{}'", definitionFile);
             }
 
-            definitionRef(definitionName, this.markupDocBuilder);
+            definitionRef(definitionName, definitionsDocBuilder);
 
         } else {
-            buildDefinition(definitionName, model, this.markupDocBuilder);
+            buildDefinition(definitionName, model, definitionsDocBuilder);
         }
     }
 
@@ -307,6 +497,7 @@ public class DefinitionsDocumentBuilder extends MarkupDocumentBuilder {
     private void inlineDefinitions(List<ObjectType> definitions, String uniquePrefix, MarkupDocBuilder docBuilder) {
         if (CollectionUtils.isNotEmpty(definitions)) {
             for (ObjectType definition : definitions) {
+                globalContext.checkNotCancelled();
                 addInlineDefinitionTitle(definition.getName(), definition.getUniqueName(), docBuilder);
                 List<ObjectType> localDefinitions = buildPropertiesTable(definition.getProperties(), uniquePrefix, new DefinitionDocumentResolverFromDefinition(), docBuilder);
                 for (ObjectType localDefinition : localDefinitions)
@@ -328,7 +519,7 @@ public class DefinitionsDocumentBuilder extends MarkupDocumentBuilder {
             String defaultResolver = super.apply(definitionName);
 
             if (defaultResolver != null && config.isSeparatedDefinitionsEnabled())
-                return defaultString(config.getInterDocumentCrossReferencesPrefix()) + markupDocBuilder.addFileExtension(normalizeName(definitionName));
+                return defaultString(config.getInterDocumentCrossReferencesPrefix()) + markupDocBuilder.addFileExtension(resolveDefinitionFileName(definitionName));
             else
                 return defaultResolver;
         }
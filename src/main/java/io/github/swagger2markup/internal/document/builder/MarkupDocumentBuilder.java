@@ -18,26 +18,37 @@ package io.github.swagger2markup.internal.document.builder;
 import io.github.swagger2markup.Swagger2MarkupConfig;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.Swagger2MarkupExtensionRegistry;
+import io.github.swagger2markup.internal.document.ArchiveWriter;
+import io.github.swagger2markup.internal.document.FragmentStore;
+import io.github.swagger2markup.internal.document.FragmentStore.Fragment;
 import io.github.swagger2markup.internal.document.MarkupDocument;
+import io.github.swagger2markup.internal.document.RollingFileWriter;
+import io.github.swagger2markup.internal.document.SeparatedFileWriter;
 import io.github.swagger2markup.internal.type.*;
+import io.github.swagger2markup.internal.utils.ConcurrentUtils;
 import io.github.swagger2markup.internal.utils.PropertyUtils;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilders;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import io.github.swagger2markup.markup.builder.MarkupTableColumn;
 import io.github.swagger2markup.utils.IOUtils;
+import io.swagger.models.Model;
 import io.swagger.models.properties.Property;
 import io.swagger.util.Json;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.github.swagger2markup.internal.utils.MapUtils.toKeySet;
 import static org.apache.commons.lang3.StringUtils.defaultString;
@@ -49,6 +60,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 public abstract class MarkupDocumentBuilder {
 
     protected static final String COLON = " : ";
+    protected static final String DEFAULT_DEFINITION_GROUP = "default";
 
     protected final String DEFAULT_COLUMN;
     protected final String EXAMPLE_COLUMN;
@@ -75,11 +87,37 @@ public abstract class MarkupDocumentBuilder {
     protected MarkupDocBuilder markupDocBuilder;
     protected Path outputPath;
 
+    /**
+     * The writer of the separated files of the document, closed once the document is built.
+     */
+    protected SeparatedFileWriter separatedFileWriter;
+
+    /**
+     * The output into which the document is streamed while it is built, or null.
+     */
+    protected Writer streamingOutput;
+
+    /**
+     * The channel into which the streaming output encodes the document, or null.
+     */
+    protected WritableByteChannel streamingChannel;
+
+    /**
+     * The extensions of the current thread, while it runs a task of a parallel rendering stage.
+     */
+    private final ThreadLocal<Swagger2MarkupExtensionRegistry> workerExtensionRegistry = new ThreadLocal<>();
+
+    /**
+     * Unique separated file name of each definition group, without extension, by group. Computed on first use.
+     */
+    private Map<String, String> definitionGroupFileNames;
+
     MarkupDocumentBuilder(Swagger2MarkupConverter.Context globalContext, Swagger2MarkupExtensionRegistry extensionRegistry, Path outputPath) {
         this.globalContext = globalContext;
         this.extensionRegistry = extensionRegistry;
         this.config = globalContext.getConfig();
         this.outputPath = outputPath;
+        this.separatedFileWriter = new SeparatedFileWriter(globalContext.getExecutor(), config.getSeparatedFileWriterThreads());
 
         this.markupDocBuilder = MarkupDocBuilders.documentBuilder(config.getMarkupLanguage(), config.getLineSeparator()).withAnchorPrefix(config.getAnchorPrefix());
 
@@ -129,13 +167,12 @@ public abstract class MarkupDocumentBuilder {
             return createInlineObjectType(type, name, uniqueName, inlineDefinitions);
         } else if (type instanceof ArrayType) {
             ArrayType arrayType = (ArrayType)type;
-            arrayType.setOfType(createInlineType(arrayType.getOfType(), name, uniqueName, inlineDefinitions));
 
-            return arrayType;
+            return new ArrayType(arrayType.getName(), createInlineType(arrayType.getOfType(), name, uniqueName, inlineDefinitions), arrayType.getCollectionFormat());
         } else if (type instanceof MapType) {
             MapType mapType = (MapType)type;
             if (mapType.getValueType() instanceof ObjectType)
-                mapType.setValueType(createInlineType(mapType.getValueType(), name, uniqueName, inlineDefinitions));
+                return new MapType(mapType.getName(), createInlineType(mapType.getValueType(), name, uniqueName, inlineDefinitions));
 
             return mapType;
         } else {
@@ -148,8 +185,9 @@ public abstract class MarkupDocumentBuilder {
             ObjectType objectType = (ObjectType)type;
             if (MapUtils.isNotEmpty(objectType.getProperties())) {
                 if (objectType.getName() == null) {
-                    objectType.setName(name);
-                    objectType.setUniqueName(uniqueName);
+                    ObjectType namedObjectType = new ObjectType(name, objectType.getPolymorphism(), objectType.getProperties());
+                    namedObjectType.setUniqueName(uniqueName);
+                    objectType = namedObjectType;
                 }
                 inlineDefinitions.add(objectType);
                 return new RefType(objectType);
@@ -232,6 +270,191 @@ public abstract class MarkupDocumentBuilder {
         return markupDocBuilder.copy(false);
     }
 
+    /**
+     * Streams the document into the given output while it is built, at the boundaries where the builder supports it.<br>
+     * The document returned by {@link #build()} only contains the content following the streamed content, which the caller must write
+     * into the same output. The output is not closed.
+     *
+     * @param streamingOutput  the output
+     * @param streamingChannel the channel into which the output encodes the document in UTF-8, or null if unknown
+     * @return this builder
+     */
+    public MarkupDocumentBuilder withStreamingOutput(Writer streamingOutput, WritableByteChannel streamingChannel) {
+        Validate.notNull(streamingOutput, "streamingOutput must not be null");
+        this.streamingOutput = streamingOutput;
+        this.streamingChannel = streamingChannel;
+        return this;
+    }
+
+    /**
+     * Writes the content of the document into the streaming output, and continues the document in a new empty docbuilder.<br>
+     * Must only be called at a boundary of the document, where a rolling output can continue into a new part.
+     */
+    protected void flushToStreamingOutput() {
+        try {
+            streamingOutput.write(this.markupDocBuilder.toString());
+            if (streamingOutput instanceof RollingFileWriter) {
+                ((RollingFileWriter) streamingOutput).rollIfFull();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write document", e);
+        }
+        this.markupDocBuilder = copyMarkupDocBuilder();
+    }
+
+    /**
+     * Writes a fragment into the streaming output. If the channel of the streaming output is known, the fragment is transferred
+     * from the fragment store into the channel without being copied through the heap. The fragment is released once written.
+     *
+     * @param fragment      the fragment
+     * @param fragmentStore the store of the fragment
+     */
+    protected void streamFragment(Fragment fragment, FragmentStore fragmentStore) {
+        try {
+            if (streamingChannel != null) {
+                streamingOutput.flush();
+                fragmentStore.transferTo(fragment, streamingChannel);
+            } else {
+                streamingOutput.write(fragmentStore.read(fragment));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write document", e);
+        }
+        fragmentStore.release(fragment);
+    }
+
+    /**
+     * Adds the separated files of the document to an archive instead of writing them into the output directory.
+     * The output path of the builder must then be a relative path, the archive root.
+     *
+     * @param archiveWriter the archive writer
+     * @return this builder
+     */
+    public MarkupDocumentBuilder withArchive(ArchiveWriter archiveWriter) {
+        Validate.notNull(archiveWriter, "archiveWriter must not be null");
+        this.separatedFileWriter = new SeparatedFileWriter(globalContext.getExecutor(), config.getSeparatedFileWriterThreads(), archiveWriter);
+        return this;
+    }
+
+    /**
+     * Writes a separated file, asynchronously if separated file writer threads are configured and the document is being built.
+     *
+     * @param docBuilder the docbuilder of the separated file
+     * @param file       the separated file
+     */
+    protected void writeSeparatedFile(MarkupDocBuilder docBuilder, Path file) {
+        separatedFileWriter.write(file, docBuilder.toString());
+    }
+
+    /**
+     * Returns the name of the separated file of a definition, without folder and extension : the group of the definition
+     * if definitions are grouped, otherwise the definition name.<br>
+     * A definition without a group belongs to the {@value #DEFAULT_DEFINITION_GROUP} group.
+     *
+     * @param definitionName the definition name
+     * @return the group of the definition, or the definition name
+     */
+    protected String resolveDefinitionGroup(String definitionName) {
+        String group = null;
+        switch (config.getDefinitionsGroupedBy()) {
+            case NAME_PREFIX:
+                int separatorIndex = definitionName.lastIndexOf(config.getDefinitionGroupKey());
+                if (separatorIndex > 0) {
+                    group = definitionName.substring(0, separatorIndex);
+                }
+                break;
+            case VENDOR_EXTENSION:
+                Map<String, Model> definitions = globalContext.getSwagger().getDefinitions();
+                Model model = definitions != null ? definitions.get(definitionName) : null;
+                if (model != null && model.getVendorExtensions() != null) {
+                    Object extension = model.getVendorExtensions().get(config.getDefinitionGroupKey());
+                    if (extension != null) {
+                        group = extension.toString();
+                    }
+                }
+                break;
+            default:
+                return definitionName;
+        }
+        return isNotBlank(group) ? group : DEFAULT_DEFINITION_GROUP;
+    }
+
+    /**
+     * Returns the name of the separated file of a definition, without folder and extension : the normalized name of
+     * {@link #resolveDefinitionGroup(String)}.<br>
+     * Groups whose names normalize to the same file name, ignoring case, are suffixed with {@code _2}, {@code _3}, ...
+     * in the natural order of the group names, so that every document and every shard worker resolves the same file names.
+     *
+     * @param definitionName the definition name
+     * @return the unique file name of the definition
+     */
+    protected String resolveDefinitionFileName(String definitionName) {
+        String group = resolveDefinitionGroup(definitionName);
+        String fileName = definitionGroupFileNames().get(group);
+        return fileName != null ? fileName : IOUtils.normalizeName(group);
+    }
+
+    private synchronized Map<String, String> definitionGroupFileNames() {
+        if (definitionGroupFileNames == null) {
+            Map<String, String> groups = new TreeMap<>();
+            Map<String, Model> definitions = globalContext.getSwagger().getDefinitions();
+            if (MapUtils.isNotEmpty(definitions)) {
+                for (String definitionName : definitions.keySet()) {
+                    String group = resolveDefinitionGroup(definitionName);
+                    groups.put(group, group);
+                }
+            }
+            definitionGroupFileNames = IOUtils.uniqueNormalizedNames(groups);
+        }
+        return definitionGroupFileNames;
+    }
+
+    /**
+     * Creates a store for the fragments rendered in parallel, bounded by the configured fragment memory budget.
+     * The store must be closed once the fragments are assembled.
+     *
+     * @return a new fragment store
+     */
+    protected FragmentStore newFragmentStore() {
+        return new FragmentStore(config.getFragmentMemoryBudget());
+    }
+
+    /**
+     * Executes the rendering tasks in parallel, on the executor of the global context, and returns their results in the order of the tasks.<br>
+     * Each thread running the tasks applies its own worker extensions.
+     *
+     * @param tasks the rendering tasks
+     * @param <T>   the result type of the tasks
+     * @return the task results, in the order of the tasks
+     */
+    protected <T> List<T> invokeAll(List<? extends Callable<T>> tasks) {
+        final Map<Thread, Swagger2MarkupExtensionRegistry> workerExtensionRegistries = new ConcurrentHashMap<>();
+        List<Callable<T>> workerTasks = new ArrayList<>(tasks.size());
+        for (final Callable<T> task : tasks) {
+            workerTasks.add(() -> {
+                workerExtensionRegistry.set(workerExtensionRegistries.computeIfAbsent(Thread.currentThread(),
+                        thread -> extensionRegistry.newWorkerRegistry(globalContext)));
+                try {
+                    return task.call();
+                } finally {
+                    workerExtensionRegistry.remove();
+                }
+            });
+        }
+        return ConcurrentUtils.invokeAll(globalContext.getExecutor(), globalContext.getParallelism(), workerTasks);
+    }
+
+    /**
+     * Returns the extensions to apply in the current thread.<br>
+     * The tasks of a parallel rendering stage get one registry per thread, see {@link Swagger2MarkupExtensionRegistry#newWorkerRegistry}.
+     *
+     * @return the extension registry of the current thread
+     */
+    protected Swagger2MarkupExtensionRegistry getExtensionRegistry() {
+        Swagger2MarkupExtensionRegistry registry = workerExtensionRegistry.get();
+        return registry != null ? registry : extensionRegistry;
+    }
+
     protected String boldText(String text) {
         return copyMarkupDocBuilder().boldText(text).toString();
     }
@@ -274,7 +497,7 @@ public abstract class MarkupDocumentBuilder {
             if (!config.isInterDocumentCrossReferencesEnabled() || outputPath == null)
                 return null;
             else if (config.isSeparatedDefinitionsEnabled())
-                return defaultString(config.getInterDocumentCrossReferencesPrefix()) + new File(config.getSeparatedDefinitionsFolder(), markupDocBuilder.addFileExtension(IOUtils.normalizeName(definitionName))).getPath();
+                return defaultString(config.getInterDocumentCrossReferencesPrefix()) + IOUtils.joinPath(config.getSeparatedDefinitionsFolder(), markupDocBuilder.addFileExtension(resolveDefinitionFileName(definitionName)));
             else
                 return defaultString(config.getInterDocumentCrossReferencesPrefix()) + markupDocBuilder.addFileExtension(config.getDefinitionsDocument());
         }
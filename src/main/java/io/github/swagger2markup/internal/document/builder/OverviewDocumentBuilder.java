@@ -216,7 +216,7 @@ public class OverviewDocumentBuilder extends MarkupDocumentBuilder {
      * @param context context
      */
     private void applyOverviewDocumentExtension(Context context) {
-        for (OverviewDocumentExtension extension : extensionRegistry.getOverviewDocumentExtensions()) {
+        for (OverviewDocumentExtension extension : getExtensionRegistry().getOverviewDocumentExtensions()) {
             extension.apply(context);
         }
     }
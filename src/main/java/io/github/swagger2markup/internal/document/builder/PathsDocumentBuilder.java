@@ -21,7 +21,11 @@ import com.google.common.collect.Multimap;
 import io.github.swagger2markup.GroupBy;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.Swagger2MarkupExtensionRegistry;
+import io.github.swagger2markup.internal.document.FragmentStore;
+import io.github.swagger2markup.internal.document.FragmentStore.Fragment;
 import io.github.swagger2markup.internal.document.MarkupDocument;
+import io.github.swagger2markup.internal.document.SeparatedFileWriter;
+import io.github.swagger2markup.internal.shard.ShardUtils;
 import io.github.swagger2markup.internal.type.ObjectType;
 import io.github.swagger2markup.internal.type.Type;
 import io.github.swagger2markup.internal.utils.ExamplesUtil;
@@ -43,9 +47,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.text.WordUtils;
 
-import java.io.File;
-import java.nio.charset.StandardCharsets;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.github.swagger2markup.internal.utils.ListUtils.toSet;
 import static io.github.swagger2markup.internal.utils.MapUtils.toKeySet;
@@ -53,7 +59,9 @@ import static io.github.swagger2markup.internal.utils.TagUtils.convertTagsListTo
 import static io.github.swagger2markup.internal.utils.TagUtils.getTagDescription;
 import static io.github.swagger2markup.spi.PathsDocumentExtension.Context;
 import static io.github.swagger2markup.spi.PathsDocumentExtension.Position;
+import static io.github.swagger2markup.utils.IOUtils.joinPath;
 import static io.github.swagger2markup.utils.IOUtils.normalizeName;
+import static io.github.swagger2markup.utils.IOUtils.uniqueNormalizedNames;
 import static org.apache.commons.lang3.StringUtils.defaultString;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
@@ -82,6 +90,27 @@ public class PathsDocumentBuilder extends MarkupDocumentBuilder {
 
     private static final String PATHS_ANCHOR = "paths";
 
+    /**
+     * Operations whose separated file is already written, an operation listed under several tags is written once.
+     */
+    private final Set<PathOperation> separatedOperations = Collections.newSetFromMap(new ConcurrentHashMap<PathOperation, Boolean>());
+
+    /**
+     * Path operations rendered by shard workers, by operation key.
+     */
+    private Map<String, java.nio.file.Path> shardOperationFragments = Collections.emptyMap();
+
+    /**
+     * Unique separated file name of each path operation, without extension, by operation key.<br>
+     * Empty if separated operation files are disabled.
+     */
+    private final Map<String, String> operationFileNames;
+
+    /**
+     * True if each tag section is written into its own file, one folder below the output directory.
+     */
+    private final boolean separatedTags;
+
 
     public PathsDocumentBuilder(Swagger2MarkupConverter.Context globalContext, Swagger2MarkupExtensionRegistry extensionRegistry, java.nio.file.Path outputPath) {
         super(globalContext, extensionRegistry, outputPath);
@@ -113,18 +142,73 @@ public class PathsDocumentBuilder extends MarkupDocumentBuilder {
             }
         }
 
+        this.separatedTags = config.isSeparatedTagsEnabled() && config.getPathsGroupedBy() == GroupBy.TAGS;
+        if (separatedTags) {
+            Validate.notNull(outputPath, "Output directory is required for separated tag files!");
+        }
+
         if (config.isSeparatedOperationsEnabled()) {
             if (logger.isDebugEnabled()) {
                 logger.debug("Create separated operation files is enabled.");
             }
             Validate.notNull(outputPath, "Output directory is required for separated operation files!");
+            Map<String, String> operationIds = new LinkedHashMap<>();
+            for (PathOperation operation : ShardUtils.toPathOperations(globalContext.getSwagger().getPaths())) {
+                operationIds.put(ShardUtils.operationKey(operation), operation.getId());
+            }
+            this.operationFileNames = uniqueNormalizedNames(operationIds);
         } else {
+            this.operationFileNames = Collections.emptyMap();
             if (logger.isDebugEnabled()) {
                 logger.debug("Create separated operation files is disabled.");
             }
         }
     }
 
+    /**
+     * Uses the given pre-rendered path operations instead of rendering them again.<br>
+     * The fragment files are streamed into the paths document when it is built, and must exist until then.
+     *
+     * @param operationFragments the file of the rendered fragment of each path operation, encoded in UTF-8, by operation key
+     * @return this builder
+     * @see ShardUtils#operationKey(PathOperation)
+     */
+    public PathsDocumentBuilder withOperationFragments(Map<String, java.nio.file.Path> operationFragments) {
+        Validate.notNull(operationFragments, "operationFragments must not be null");
+        this.shardOperationFragments = operationFragments;
+        return this;
+    }
+
+    /**
+     * Streams the paths document into the given output while it is built : each path operation is written as soon as it is rendered,
+     * and is then released.<br>
+     * The document returned by {@link #build()} only contains the content following the streamed content, which the caller must write
+     * into the same output. The output is not closed.
+     *
+     * @param streamingOutput  the output
+     * @param streamingChannel the channel into which the output encodes the document in UTF-8, or null if unknown.
+     *                         Fragments spilled by the fragment store are transferred directly into this channel.
+     * @return this builder
+     */
+    @Override
+    public PathsDocumentBuilder withStreamingOutput(Writer streamingOutput, WritableByteChannel streamingChannel) {
+        super.withStreamingOutput(streamingOutput, streamingChannel);
+        return this;
+    }
+
+    /**
+     * Renders a single path operation, as it would be added to the paths document.<br>
+     * The separated operation file is written too if separated operations are enabled.
+     *
+     * @param operation the path operation
+     * @return the rendered path operation
+     */
+    public String buildOperationFragment(PathOperation operation) {
+        MarkupDocBuilder operationDocBuilder = copyMarkupDocBuilder();
+        buildOperationEntry(operation, operationDocBuilder);
+        return operationDocBuilder.toString();
+    }
+
     /**
      * Builds the paths MarkupDocument.
      *
@@ -134,12 +218,14 @@ public class PathsDocumentBuilder extends MarkupDocumentBuilder {
     public MarkupDocument build() {
         Map<String, Path> paths = globalContext.getSwagger().getPaths();
         if (MapUtils.isNotEmpty(paths)) {
-            applyPathsDocumentExtension(new Context(Position.DOCUMENT_BEFORE, this.markupDocBuilder));
-            buildPathsTitle();
-            applyPathsDocumentExtension(new Context(Position.DOCUMENT_BEGIN, this.markupDocBuilder));
-            buildsPathsSection(paths);
-            applyPathsDocumentExtension(new Context(Position.DOCUMENT_END, this.markupDocBuilder));
-            applyPathsDocumentExtension(new Context(Position.DOCUMENT_AFTER, this.markupDocBuilder));
+            try (SeparatedFileWriter fileWriter = this.separatedFileWriter) {
+                applyPathsDocumentExtension(new Context(Position.DOCUMENT_BEFORE, this.markupDocBuilder));
+                buildPathsTitle();
+                applyPathsDocumentExtension(new Context(Position.DOCUMENT_BEGIN, this.markupDocBuilder));
+                buildsPathsSection(paths);
+                applyPathsDocumentExtension(new Context(Position.DOCUMENT_END, this.markupDocBuilder));
+                applyPathsDocumentExtension(new Context(Position.DOCUMENT_AFTER, this.markupDocBuilder));
+            }
         }
         return new MarkupDocument(markupDocBuilder);
     }
@@ -147,29 +233,265 @@ public class PathsDocumentBuilder extends MarkupDocumentBuilder {
     private void buildsPathsSection(Map<String, Path> paths) {
         Set<PathOperation> pathOperations = toPathOperationsSet(paths);
         if (CollectionUtils.isNotEmpty(pathOperations)) {
-            if (config.getPathsGroupedBy() == GroupBy.AS_IS) {
-                for (PathOperation operation : pathOperations) {
-                    buildOperation(operation);
+            try (FragmentStore fragmentStore = newFragmentStore()) {
+                Map<PathOperation, Fragment> operationFragments = buildOperationFragments(pathOperations, fragmentStore);
+                if (config.getPathsGroupedBy() == GroupBy.AS_IS) {
+                    if (streamingOutput != null) {
+                        streamOperations(pathOperations, operationFragments, fragmentStore);
+                    } else {
+                        for (PathOperation operation : pathOperations) {
+                            buildOperation(operation, operationFragments, fragmentStore, this.markupDocBuilder);
+                        }
+                    }
+                } else {
+                    Multimap<String, PathOperation> operationsGroupedByTag = TagUtils.groupOperationsByTag(pathOperations, config.getTagOrdering(), config.getOperationOrdering());
+                    Map<String, Tag> tagsMap = convertTagsListToMap(globalContext.getSwagger().getTags());
+                    retainSharedOperationFragments(operationsGroupedByTag, operationFragments, fragmentStore);
+                    if (separatedTags) {
+                        buildSeparatedTagSections(operationsGroupedByTag, tagsMap, operationFragments, fragmentStore);
+                    } else if (config.isParallelTagsEnabled() && operationFragments.isEmpty() && isParallelRenderingAllowed()) {
+                        buildTagSectionsInParallel(operationsGroupedByTag, tagsMap, fragmentStore);
+                    } else if (streamingOutput != null) {
+                        for (String tagName : operationsGroupedByTag.keySet()) {
+                            buildTagHeader(tagName, tagsMap, this.markupDocBuilder);
+                            streamOperations(operationsGroupedByTag.get(tagName), operationFragments, fragmentStore);
+                        }
+                    } else {
+                        for (String tagName : operationsGroupedByTag.keySet()) {
+                            buildTagSection(tagName, operationsGroupedByTag.get(tagName), tagsMap, operationFragments, fragmentStore, this.markupDocBuilder);
+                        }
+                    }
                 }
+            }
+        }
+    }
+
+    /**
+     * Retains the fragment of an operation listed under several tags once for each additional tag, as each tag section releases it.
+     *
+     * @param operationsGroupedByTag the operations grouped by tag
+     * @param operationFragments     the pre-rendered operation fragments
+     * @param fragmentStore          the store of the pre-rendered operation fragments
+     */
+    private void retainSharedOperationFragments(Multimap<String, PathOperation> operationsGroupedByTag, Map<PathOperation, Fragment> operationFragments, FragmentStore fragmentStore) {
+        Set<PathOperation> listedOperations = Collections.newSetFromMap(new IdentityHashMap<PathOperation, Boolean>());
+        for (PathOperation operation : operationsGroupedByTag.values()) {
+            Fragment operationFragment = operationFragments.get(operation);
+            if (operationFragment != null && !listedOperations.add(operation)) {
+                fragmentStore.retain(operationFragment);
+            }
+        }
+    }
+
+    /**
+     * Specifies if fragments can be rendered in parallel : when the paths document is streamed, fragments rendered in parallel
+     * are only allowed if a fragment memory budget bounds their heap size.
+     *
+     * @return true if fragments can be rendered in parallel
+     */
+    private boolean isParallelRenderingAllowed() {
+        return streamingOutput == null || config.getFragmentMemoryBudget() > 0;
+    }
+
+    /**
+     * Renders each tag section into its own fragment, in parallel, and appends the fragments in tag order.<br>
+     * The operations of a tag section are rendered sequentially.
+     *
+     * @param operationsGroupedByTag the operations grouped by tag
+     * @param tagsMap                the tags of the Swagger model
+     * @param fragmentStore          the store of the tag fragments
+     */
+    private void buildTagSectionsInParallel(final Multimap<String, PathOperation> operationsGroupedByTag, final Map<String, Tag> tagsMap, final FragmentStore fragmentStore) {
+        final Map<PathOperation, Fragment> noOperationFragments = Collections.emptyMap();
+        List<Callable<Fragment>> tagTasks = new ArrayList<>();
+        for (final String tagName : operationsGroupedByTag.keySet()) {
+            tagTasks.add(() -> {
+                MarkupDocBuilder tagDocBuilder = copyMarkupDocBuilder();
+                buildTagSection(tagName, operationsGroupedByTag.get(tagName), tagsMap, noOperationFragments, fragmentStore, tagDocBuilder);
+                return fragmentStore.add(tagDocBuilder.toString());
+            });
+        }
+        for (Fragment tagFragment : invokeAll(tagTasks)) {
+            if (streamingOutput != null) {
+                flushToStreamingOutput();
+                streamFragment(tagFragment, fragmentStore);
             } else {
-                Multimap<String, PathOperation> operationsGroupedByTag = TagUtils.groupOperationsByTag(pathOperations, config.getTagOrdering(), config.getOperationOrdering());
-                Map<String, Tag> tagsMap = convertTagsListToMap(globalContext.getSwagger().getTags());
-                for (String tagName : operationsGroupedByTag.keySet()) {
-                    this.markupDocBuilder.sectionTitleWithAnchorLevel2(WordUtils.capitalize(tagName), tagName + "_resource");
-
-                    Optional<String> tagDescription = getTagDescription(tagsMap, tagName);
-                    if (tagDescription.isPresent()) {
-                        this.markupDocBuilder.paragraph(tagDescription.get());
-                    }
+                this.markupDocBuilder.text(fragmentStore.read(tagFragment));
+                fragmentStore.release(tagFragment);
+            }
+        }
+    }
 
-                    for (PathOperation operation : operationsGroupedByTag.get(tagName)) {
-                        buildOperation(operation);
-                    }
+    /**
+     * Writes each tag section into its own file, in parallel, and builds an index of the tag files into the paths document.<br>
+     * The pre-rendered operations are shared by the tag sections.
+     *
+     * @param operationsGroupedByTag the operations grouped by tag
+     * @param tagsMap                the tags of the Swagger model
+     * @param operationFragments     the pre-rendered operation fragments
+     * @param fragmentStore          the store of the pre-rendered operation fragments
+     */
+    private void buildSeparatedTagSections(final Multimap<String, PathOperation> operationsGroupedByTag, final Map<String, Tag> tagsMap,
+                                           final Map<PathOperation, Fragment> operationFragments, final FragmentStore fragmentStore) {
+        Map<String, String> tagNames = new LinkedHashMap<>();
+        for (String tagName : operationsGroupedByTag.keySet()) {
+            tagNames.put(tagName, tagName);
+        }
+        final Map<String, String> tagFileNames = uniqueNormalizedNames(tagNames);
+        List<Callable<Void>> tagTasks = new ArrayList<>();
+        for (final String tagName : operationsGroupedByTag.keySet()) {
+            tagTasks.add(() -> {
+                MarkupDocBuilder tagDocBuilder = copyMarkupDocBuilder();
+                buildTagSection(tagName, operationsGroupedByTag.get(tagName), tagsMap, operationFragments, fragmentStore, tagDocBuilder);
+                java.nio.file.Path tagFile = outputPath.resolve(resolveTagDocument(tagFileNames.get(tagName)));
+                writeSeparatedFile(tagDocBuilder, tagFile);
+                if (logger.isInfoEnabled()) {
+                    logger.info("Separate tag file produced : '{}'", tagFile);
                 }
+                return null;
+            });
+        }
+        invokeAll(tagTasks);
+
+        List<String> tagReferences = new ArrayList<>();
+        for (String tagName : operationsGroupedByTag.keySet()) {
+            String document = defaultString(config.getInterDocumentCrossReferencesPrefix()) + resolveTagDocument(tagFileNames.get(tagName));
+            tagReferences.add(copyMarkupDocBuilder().crossReference(document, tagName + "_resource", WordUtils.capitalize(tagName)).toString());
+        }
+        this.markupDocBuilder.unorderedList(tagReferences);
+    }
+
+    /**
+     * Create the tag filename
+     *
+     * @param tagFileName the unique normalized file name of the tag, without extension
+     * @return tag filename
+     */
+    private String resolveTagDocument(String tagFileName) {
+        return joinPath(config.getSeparatedTagsFolder(), this.markupDocBuilder.addFileExtension(tagFileName));
+    }
+
+    /**
+     * Resolves a document referenced by a path operation : the operations of separated tag files are one folder below the output directory.
+     *
+     * @param document the document relative to the output directory
+     * @return the document relative to the operation
+     */
+    private String fromOperation(String document) {
+        return separatedTags ? joinPath("..", document) : document;
+    }
+
+    /**
+     * Builds a tag section : the tag title, the tag description and the operations of the tag.
+     *
+     * @param tagName            the tag name
+     * @param operations         the operations of the tag
+     * @param tagsMap            the tags of the Swagger model
+     * @param operationFragments the pre-rendered operation fragments
+     * @param fragmentStore      the store of the pre-rendered operation fragments
+     * @param docBuilder         the docbuilder of the paths document, or of the tag fragment
+     */
+    private void buildTagSection(String tagName, Collection<PathOperation> operations, Map<String, Tag> tagsMap, Map<PathOperation, Fragment> operationFragments, FragmentStore fragmentStore, MarkupDocBuilder docBuilder) {
+        buildTagHeader(tagName, tagsMap, docBuilder);
+
+        for (PathOperation operation : operations) {
+            buildOperation(operation, operationFragments, fragmentStore, docBuilder);
+        }
+    }
+
+    /**
+     * Builds the tag title and the tag description of a tag section.
+     *
+     * @param tagName    the tag name
+     * @param tagsMap    the tags of the Swagger model
+     * @param docBuilder the docbuilder of the paths document, or of the tag fragment
+     */
+    private void buildTagHeader(String tagName, Map<String, Tag> tagsMap, MarkupDocBuilder docBuilder) {
+        docBuilder.sectionTitleWithAnchorLevel2(WordUtils.capitalize(tagName), tagName + "_resource");
+
+        Optional<String> tagDescription = getTagDescription(tagsMap, tagName);
+        if (tagDescription.isPresent()) {
+            docBuilder.paragraph(tagDescription.get());
+        }
+    }
+
+    /**
+     * Adds each path operation to the paths document and writes the paths document into the streaming output,
+     * so that the document never holds more than one operation.<br>
+     * Pre-rendered operations are transferred from the fragment store into the streaming output.
+     *
+     * @param operations         the path operations
+     * @param operationFragments the pre-rendered operation fragments
+     * @param fragmentStore      the store of the pre-rendered operation fragments
+     */
+    private void streamOperations(Collection<PathOperation> operations, Map<PathOperation, Fragment> operationFragments, FragmentStore fragmentStore) {
+        for (PathOperation operation : operations) {
+            Fragment operationFragment = operationFragments.get(operation);
+            if (operationFragment != null) {
+                flushToStreamingOutput();
+                streamFragment(operationFragment, fragmentStore);
+            } else {
+                buildOperationEntry(operation, this.markupDocBuilder);
+                flushToStreamingOutput();
             }
         }
     }
 
+    /**
+     * Renders each path operation into its own fragment, in parallel, if parallel operations are enabled.<br>
+     * Each operation is rendered once, even if it is listed under several tags.<br>
+     * Operations rendered by shard workers are not rendered again.<br>
+     * When the paths document is streamed, operations are only rendered in parallel if a fragment memory budget is configured.
+     *
+     * @param pathOperations the path operations
+     * @param fragmentStore  the store of the operation fragments
+     * @return the rendered fragment of each path operation, or an empty map if the operations are not rendered in parallel
+     */
+    private Map<PathOperation, Fragment> buildOperationFragments(Set<PathOperation> pathOperations, final FragmentStore fragmentStore) {
+        Map<PathOperation, Fragment> operationFragments = new IdentityHashMap<>();
+        if (!shardOperationFragments.isEmpty()) {
+            for (PathOperation operation : pathOperations) {
+                java.nio.file.Path operationFragmentFile = shardOperationFragments.get(ShardUtils.operationKey(operation));
+                if (operationFragmentFile != null) {
+                    operationFragments.put(operation, fragmentStore.addFile(operationFragmentFile));
+                }
+            }
+        } else if (config.isParallelOperationsEnabled() && isParallelRenderingAllowed()) {
+            final List<PathOperation> operations = new ArrayList<>(pathOperations);
+            List<Callable<Fragment>> operationTasks = new ArrayList<>();
+            for (final PathOperation operation : operations) {
+                operationTasks.add(() -> {
+                    MarkupDocBuilder operationDocBuilder = copyMarkupDocBuilder();
+                    buildOperationEntry(operation, operationDocBuilder);
+                    return fragmentStore.add(operationDocBuilder.toString());
+                });
+            }
+            List<Fragment> fragments = invokeAll(operationTasks);
+            for (int i = 0; i < operations.size(); i++) {
+                operationFragments.put(operations.get(i), fragments.get(i));
+            }
+        }
+        return operationFragments;
+    }
+
+    /**
+     * Adds a path operation to the paths document, using its pre-rendered fragment if available.
+     *
+     * @param operation          the path operation
+     * @param operationFragments the pre-rendered operation fragments
+     * @param fragmentStore      the store of the pre-rendered operation fragments
+     * @param docBuilder         the docbuilder of the paths document, or of the tag fragment
+     */
+    private void buildOperation(PathOperation operation, Map<PathOperation, Fragment> operationFragments, FragmentStore fragmentStore, MarkupDocBuilder docBuilder) {
+        Fragment operationFragment = operationFragments.get(operation);
+        if (operationFragment != null) {
+            docBuilder.text(fragmentStore.read(operationFragment));
+            fragmentStore.release(operationFragment);
+        } else {
+            buildOperationEntry(operation, docBuilder);
+        }
+    }
+
     /**
      * Builds the path title depending on the operationsGroupedBy configuration setting.
      */
@@ -215,20 +537,32 @@ public class PathsDocumentBuilder extends MarkupDocumentBuilder {
      * @param context context
      */
     private void applyPathsDocumentExtension(Context context) {
-        for (PathsDocumentExtension extension : extensionRegistry.getPathsDocumentExtensions()) {
+        for (PathsDocumentExtension extension : getExtensionRegistry().getPathsDocumentExtensions()) {
             extension.apply(context);
         }
     }
 
     /**
-     * Create the operation filename depending on the generation mode
+     * Returns the unique separated file name of the operation, without extension.
+     *
+     * @param operation operation
+     * @return the operation file name
+     */
+    private String resolveOperationFileName(PathOperation operation) {
+        String operationFileName = operationFileNames.get(ShardUtils.operationKey(operation));
+        return operationFileName != null ? operationFileName : normalizeName(operation.getId());
+    }
+
+    /**
+     * Create the operation filename depending on the generation mode.<br>
+     * Separated operation files are named after the operation id, suffixed when two operation ids normalize to the same file name.
      *
      * @param operation operation
      * @return operation filename
      */
     private String resolveOperationDocument(PathOperation operation) {
         if (config.isSeparatedOperationsEnabled())
-            return new File(config.getSeparatedOperationsFolder(), this.markupDocBuilder.addFileExtension(normalizeName(operation.getId()))).getPath();
+            return joinPath(config.getSeparatedOperationsFolder(), this.markupDocBuilder.addFileExtension(resolveOperationFileName(operation)));
         else
             return this.markupDocBuilder.addFileExtension(config.getPathsDocument());
     }
@@ -236,22 +570,26 @@ public class PathsDocumentBuilder extends MarkupDocumentBuilder {
     /**
      * Builds a path operation depending on generation mode.
      *
-     * @param operation operation
+     * @param operation         operation
+     * @param pathsDocBuilder   the docbuilder of the paths document, or of the operation fragment
      */
-    private void buildOperation(PathOperation operation) {
+    private void buildOperationEntry(PathOperation operation, MarkupDocBuilder pathsDocBuilder) {
+        globalContext.checkNotCancelled();
         if (config.isSeparatedOperationsEnabled()) {
-            MarkupDocBuilder pathDocBuilder = copyMarkupDocBuilder();
-            buildOperation(operation, pathDocBuilder);
-            java.nio.file.Path operationFile = outputPath.resolve(resolveOperationDocument(operation));
-            pathDocBuilder.writeToFileWithoutExtension(operationFile, StandardCharsets.UTF_8);
-            if (logger.isInfoEnabled()) {
-                logger.info("Separate operation file produced : '{}'", operationFile);
+            if (separatedOperations.add(operation)) {
+                MarkupDocBuilder pathDocBuilder = copyMarkupDocBuilder();
+                buildOperation(operation, pathDocBuilder);
+                java.nio.file.Path operationFile = outputPath.resolve(resolveOperationDocument(operation));
+                writeSeparatedFile(pathDocBuilder, operationFile);
+                if (logger.isInfoEnabled()) {
+                    logger.info("Separate operation file produced : '{}'", operationFile);
+                }
             }
 
-            buildOperationRef(operation, this.markupDocBuilder);
+            buildOperationRef(operation, pathsDocBuilder);
 
         } else {
-            buildOperation(operation, this.markupDocBuilder);
+            buildOperation(operation, pathsDocBuilder);
         }
 
         if (logger.isInfoEnabled()) {
@@ -272,14 +610,15 @@ public class PathsDocumentBuilder extends MarkupDocumentBuilder {
             buildOperationTitle(operation, docBuilder);
             applyPathsDocumentExtension(new Context(Position.OPERATION_BEGIN, docBuilder, operation));
             buildDescriptionSection(operation, docBuilder);
-            inlineDefinitions(buildParametersSection(operation, docBuilder), operation.getPath() + " " + operation.getMethod(), docBuilder);
+            List<Parameter> parameters = orderedParameters(operation);
+            inlineDefinitions(buildParametersSection(operation, parameters, docBuilder), operation.getPath() + " " + operation.getMethod(), docBuilder);
             inlineDefinitions(buildBodyParameterSection(operation, docBuilder), operation.getPath() + " " + operation.getMethod(), docBuilder);
             inlineDefinitions(buildResponsesSection(operation, docBuilder), operation.getPath() + " " + operation.getMethod(), docBuilder);
             buildConsumesSection(operation, docBuilder);
             buildProducesSection(operation, docBuilder);
             buildTagsSection(operation, docBuilder);
             buildSecuritySchemeSection(operation, docBuilder);
-            buildExamplesSection(operation, docBuilder);
+            buildExamplesSection(operation, parameters, docBuilder);
             applyPathsDocumentExtension(new Context(Position.OPERATION_END, docBuilder, operation));
             applyPathsDocumentExtension(new Context(Position.OPERATION_AFTER, docBuilder, operation));
         }
@@ -296,7 +635,7 @@ public class PathsDocumentBuilder extends MarkupDocumentBuilder {
         if (!config.isInterDocumentCrossReferencesEnabled() || outputPath == null)
             document = null;
         else if (config.isSeparatedOperationsEnabled())
-            document = defaultString(config.getInterDocumentCrossReferencesPrefix()) + resolveOperationDocument(operation);
+            document = defaultString(config.getInterDocumentCrossReferencesPrefix()) + fromOperation(resolveOperationDocument(operation));
         else
             document = defaultString(config.getInterDocumentCrossReferencesPrefix()) + resolveOperationDocument(operation);
 
@@ -404,10 +743,23 @@ public class PathsDocumentBuilder extends MarkupDocumentBuilder {
         return (!config.isFlatBodyEnabled() || !StringUtils.equals(parameter.getIn(), "body"));
     }
 
-    private List<ObjectType> buildParametersSection(PathOperation operation, MarkupDocBuilder docBuilder) {
+    /**
+     * Returns the operation parameters sorted with the configured parameter ordering.<br>
+     * The Swagger model is left untouched : the parameters are sorted in a copy.
+     *
+     * @param operation the Swagger Operation
+     * @return the ordered parameters, or null if the operation has no parameters
+     */
+    private List<Parameter> orderedParameters(PathOperation operation) {
         List<Parameter> parameters = operation.getOperation().getParameters();
-        if (config.getParameterOrdering() != null)
+        if (config.getParameterOrdering() != null && parameters != null) {
+            parameters = new ArrayList<>(parameters);
             Collections.sort(parameters, config.getParameterOrdering());
+        }
+        return parameters;
+    }
+
+    private List<ObjectType> buildParametersSection(PathOperation operation, List<Parameter> parameters, MarkupDocBuilder docBuilder) {
         List<ObjectType> inlineDefinitions = new ArrayList<>();
 
         boolean hasParameters = false;
@@ -558,11 +910,12 @@ public class PathsDocumentBuilder extends MarkupDocumentBuilder {
      * Builds the example section of a Swagger Operation.
      *
      * @param operation  the Swagger Operation
+     * @param parameters the ordered operation parameters
      * @param docBuilder the docbuilder do use for output
      */
-    private void buildExamplesSection(PathOperation operation, MarkupDocBuilder docBuilder) {
+    private void buildExamplesSection(PathOperation operation, List<Parameter> parameters, MarkupDocBuilder docBuilder) {
 
-        Map<String, Object> generatedRequestExampleMap = ExamplesUtil.generateRequestExampleMap(config.isGeneratedExamplesEnabled(), operation, globalContext.getSwagger().getDefinitions(), markupDocBuilder);
+        Map<String, Object> generatedRequestExampleMap = ExamplesUtil.generateRequestExampleMap(config.isGeneratedExamplesEnabled(), operation, parameters, globalContext.getSwagger().getDefinitions(), markupDocBuilder);
         Map<String, Object> generatedResponseExampleMap = ExamplesUtil.generateResponseExampleMap(config.isGeneratedExamplesEnabled(), operation.getOperation(), globalContext.getSwagger().getDefinitions(), markupDocBuilder);
 
         exampleMap(generatedRequestExampleMap, EXAMPLE_REQUEST, REQUEST, docBuilder);
@@ -633,7 +986,7 @@ public class PathsDocumentBuilder extends MarkupDocumentBuilder {
         if (!config.isInterDocumentCrossReferencesEnabled() || outputPath == null)
             return null;
         else
-            return defaultString(config.getInterDocumentCrossReferencesPrefix()) + markupDocBuilder.addFileExtension(config.getSecurityDocument());
+            return defaultString(config.getInterDocumentCrossReferencesPrefix()) + fromOperation(markupDocBuilder.addFileExtension(config.getSecurityDocument()));
     }
 
     private List<ObjectType> buildResponsesSection(PathOperation operation, MarkupDocBuilder docBuilder) {
@@ -739,6 +1092,7 @@ public class PathsDocumentBuilder extends MarkupDocumentBuilder {
     private void inlineDefinitions(List<ObjectType> definitions, String uniquePrefix, MarkupDocBuilder docBuilder) {
         if (CollectionUtils.isNotEmpty(definitions)) {
             for (ObjectType definition : definitions) {
+                globalContext.checkNotCancelled();
                 addInlineDefinitionTitle(definition.getName(), definition.getUniqueName(), docBuilder);
 
                 List<ObjectType> localDefinitions = buildPropertiesTable(definition.getProperties(), uniquePrefix, new DefinitionDocumentResolverFromOperation(), docBuilder);
@@ -761,8 +1115,8 @@ public class PathsDocumentBuilder extends MarkupDocumentBuilder {
         public String apply(String definitionName) {
             String defaultResolver = super.apply(definitionName);
 
-            if (defaultResolver != null && config.isSeparatedOperationsEnabled())
-                return defaultString(config.getInterDocumentCrossReferencesPrefix()) + new File("..", defaultResolver).getPath();
+            if (defaultResolver != null && (config.isSeparatedOperationsEnabled() || separatedTags))
+                return defaultString(config.getInterDocumentCrossReferencesPrefix()) + joinPath("..", defaultResolver);
             else
                 return defaultResolver;
         }
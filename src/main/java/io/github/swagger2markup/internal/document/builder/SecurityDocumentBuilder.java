@@ -148,7 +148,7 @@ public class SecurityDocumentBuilder extends MarkupDocumentBuilder {
      * @param context context
      */
     private void applySecurityDocumentExtension(Context context) {
-        for (SecurityDocumentExtension extension : extensionRegistry.getSecurityDocumentExtensions()) {
+        for (SecurityDocumentExtension extension : getExtensionRegistry().getSecurityDocumentExtensions()) {
             extension.apply(context);
         }
     }
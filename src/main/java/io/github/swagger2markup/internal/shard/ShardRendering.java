@@ -0,0 +1,282 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.shard;
+
+import io.github.swagger2markup.ConversionCancelledException;
+import io.github.swagger2markup.Swagger2MarkupConfig;
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.Swagger2MarkupExtensionRegistry;
+import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
+import io.github.swagger2markup.internal.utils.StagingUtils;
+import io.github.swagger2markup.model.PathOperation;
+import io.swagger.models.Swagger;
+import io.swagger.util.Json;
+import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders the path operations and definitions of a conversion in several local worker processes.<br>
+ * Each worker renders its shard against the whole Swagger model with the same configuration, so that cross-references
+ * between shards are resolved as in a single process. The fragments are merged by the paths and definitions document builders,
+ * in the configured order.
+ * <p>
+ * The fragments are kept in the files the workers rendered them into, until the rendering is closed.
+ */
+public final class ShardRendering implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardRendering.class);
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final Path workDirectory;
+    private final Map<String, Path> operationFragments;
+    private final Map<String, Path> definitionFragments;
+
+    private ShardRendering(Path workDirectory, Map<String, Path> operationFragments, Map<String, Path> definitionFragments) {
+        this.workDirectory = workDirectory;
+        this.operationFragments = operationFragments;
+        this.definitionFragments = definitionFragments;
+    }
+
+    /**
+     * Returns the rendered path operations.
+     *
+     * @return the file of the rendered fragment of each path operation, encoded in UTF-8, by operation key
+     */
+    public Map<String, Path> getOperationFragments() {
+        return operationFragments;
+    }
+
+    /**
+     * Returns the rendered definitions.
+     *
+     * @return the file of the rendered fragment of each definition, encoded in UTF-8, by definition name
+     */
+    public Map<String, Path> getDefinitionFragments() {
+        return definitionFragments;
+    }
+
+    /**
+     * Deletes the fragment files.
+     */
+    @Override
+    public void close() {
+        StagingUtils.deleteQuietly(workDirectory);
+    }
+
+    /**
+     * Renders the path operations and definitions in {@code config.getShardCount()} worker processes and waits for them.
+     *
+     * The workers only apply the paths and definitions document extensions loaded by the ServiceLoader.
+     *
+     * @param context           the context of the conversion
+     * @param extensionRegistry the extension registry of the conversion
+     * @param outputPath        the output directory of separated operation and definition files, or null
+     * @param workerClass       the entry point of the worker processes
+     * @return the rendered fragments, which must be closed once they are merged
+     * @throws ConversionCancelledException if the conversion is cancelled, the workers are destroyed
+     * @throws RuntimeException if a worker fails
+     * @throws IllegalArgumentException if paths or definitions document extensions are not loaded by the ServiceLoader
+     * @throws IllegalStateException if the classpath of the worker processes can't be determined
+     */
+    public static ShardRendering render(Swagger2MarkupConverter.Context context, Swagger2MarkupExtensionRegistry extensionRegistry, Path outputPath,
+                                        Class<?> workerClass) {
+        Validate.isTrue(outputPath == null || outputPath.getFileSystem() == FileSystems.getDefault(),
+                "Shards require an output directory on the default file system");
+        Swagger2MarkupExtensionRegistry workerExtensionRegistry = new Swagger2MarkupExtensionRegistryBuilder().build();
+        Validate.isTrue(sameExtensionClasses(extensionRegistry.getPathsDocumentExtensions(), workerExtensionRegistry.getPathsDocumentExtensions()),
+                "Paths document extensions which are not loaded by the ServiceLoader are not supported with shards");
+        Validate.isTrue(sameExtensionClasses(extensionRegistry.getDefinitionsDocumentExtensions(), workerExtensionRegistry.getDefinitionsDocumentExtensions()),
+                "Definitions document extensions which are not loaded by the ServiceLoader are not supported with shards");
+        String classPath = workerClassPath(workerClass);
+        Swagger2MarkupConfig config = context.getConfig();
+        Swagger swagger = context.getSwagger();
+        Properties configProperties = ShardUtils.toProperties(config);
+
+        List<PathOperation> pathOperations = ShardUtils.toPathOperations(swagger.getPaths());
+        List<List<PathOperation>> operationShards = ShardUtils.shardOperations(pathOperations, config.getShardCount(), config.getShardBy());
+        Collection<String> definitionNames = MapUtils.isNotEmpty(swagger.getDefinitions()) ? swagger.getDefinitions().keySet() : Collections.<String>emptySet();
+        List<List<String>> definitionShards = ShardUtils.shardDefinitions(definitionNames, config.getShardCount());
+
+        Path workDirectory = null;
+        boolean rendered = false;
+        List<Process> workers = new ArrayList<>();
+        try {
+            workDirectory = Files.createTempDirectory("swagger2markup-shards-");
+            Path swaggerFile = workDirectory.resolve("swagger.json");
+            try (Writer writer = Files.newBufferedWriter(swaggerFile, StandardCharsets.UTF_8)) {
+                Json.mapper().writeValue(writer, swagger);
+            }
+
+            List<Integer> workerShards = new ArrayList<>();
+            for (int shard = 0; shard < config.getShardCount(); shard++) {
+                List<PathOperation> operations = operationShards.get(shard);
+                List<String> definitions = definitionShards.get(shard);
+                if (operations.isEmpty() && definitions.isEmpty()) {
+                    continue;
+                }
+                Properties task = new Properties();
+                task.putAll(configProperties);
+                task.setProperty(ShardWorker.SWAGGER_FILE, swaggerFile.toString());
+                task.setProperty(ShardWorker.FRAGMENT_DIRECTORY, fragmentDirectory(workDirectory, shard).toString());
+                if (outputPath != null) {
+                    task.setProperty(ShardWorker.OUTPUT_DIRECTORY, outputPath.toAbsolutePath().toString());
+                }
+                task.setProperty(ShardWorker.OPERATION_COUNT, String.valueOf(operations.size()));
+                for (int i = 0; i < operations.size(); i++) {
+                    task.setProperty(ShardWorker.OPERATION + i, ShardUtils.operationKey(operations.get(i)));
+                }
+                task.setProperty(ShardWorker.DEFINITION_COUNT, String.valueOf(definitions.size()));
+                for (int i = 0; i < definitions.size(); i++) {
+                    task.setProperty(ShardWorker.DEFINITION + i, definitions.get(i));
+                }
+                Path taskFile = workDirectory.resolve("shard-" + shard + ".properties");
+                try (Writer writer = Files.newBufferedWriter(taskFile, StandardCharsets.UTF_8)) {
+                    task.store(writer, null);
+                }
+                workers.add(startWorker(workerClass, classPath, taskFile));
+                workerShards.add(shard);
+                if (logger.isInfoEnabled()) {
+                    logger.info("Shard {} started : {} operations, {} definitions", shard, operations.size(), definitions.size());
+                }
+            }
+
+            for (int i = 0; i < workers.size(); i++) {
+                int exitCode = waitFor(context, workers.get(i));
+                if (exitCode != 0) {
+                    throw new RuntimeException(String.format("Shard %d failed with exit code %d", workerShards.get(i), exitCode));
+                }
+            }
+
+            Map<String, Path> operationFragments = new HashMap<>();
+            Map<String, Path> definitionFragments = new HashMap<>();
+            for (int shard : workerShards) {
+                Path fragmentDirectory = fragmentDirectory(workDirectory, shard);
+                List<PathOperation> operations = operationShards.get(shard);
+                for (int i = 0; i < operations.size(); i++) {
+                    operationFragments.put(ShardUtils.operationKey(operations.get(i)), fragmentDirectory.resolve(ShardWorker.OPERATION_FRAGMENT + i));
+                }
+                List<String> definitions = definitionShards.get(shard);
+                for (int i = 0; i < definitions.size(); i++) {
+                    definitionFragments.put(definitions.get(i), fragmentDirectory.resolve(ShardWorker.DEFINITION_FRAGMENT + i));
+                }
+            }
+            rendered = true;
+            return new ShardRendering(workDirectory, operationFragments, definitionFragments);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to render shards", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConversionCancelledException("Conversion was cancelled");
+        } finally {
+            for (Process worker : workers) {
+                worker.destroy();
+            }
+            if (workDirectory != null && !rendered) {
+                StagingUtils.deleteQuietly(workDirectory);
+            }
+        }
+    }
+
+    /**
+     * Checks that the extensions of a conversion are the ones a worker loads, by class and in the same order.
+     */
+    private static boolean sameExtensionClasses(List<?> extensions, List<?> workerExtensions) {
+        if (extensions.size() != workerExtensions.size()) {
+            return false;
+        }
+        for (int i = 0; i < extensions.size(); i++) {
+            if (extensions.get(i).getClass() != workerExtensions.get(i).getClass()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Process startWorker(Class<?> workerClass, String classPath, Path taskFile) throws IOException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        return new ProcessBuilder(java, "-cp", classPath, workerClass.getName(), taskFile.toString())
+                .inheritIO()
+                .start();
+    }
+
+    /**
+     * Returns the classpath of the worker processes : the classpath of the class loader of the worker class and of its parents,
+     * which is not the classpath of the JVM when the converter runs in a child class loader, e.g. in a build plugin or a servlet container.
+     * The entries of the parent class loaders come first, as classes are looked up in the parents first.
+     *
+     * @throws IllegalStateException if the classpath of a class loader can't be determined
+     */
+    static String workerClassPath(Class<?> workerClass) {
+        ClassLoader systemClassLoader = ClassLoader.getSystemClassLoader();
+        Deque<List<String>> loaderEntries = new ArrayDeque<>();
+        ClassLoader loader = workerClass.getClassLoader();
+        while (loader != null && loader != systemClassLoader) {
+            Validate.validState(loader instanceof URLClassLoader,
+                    "Shard workers can't be started : the classpath of the class loader '%s' of %s is unknown", loader, workerClass.getName());
+            List<String> entries = new ArrayList<>();
+            for (URL url : ((URLClassLoader) loader).getURLs()) {
+                try {
+                    entries.add(Paths.get(url.toURI()).toString());
+                } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+                    throw new IllegalStateException(String.format("Shard workers can't be started : the classpath entry '%s' is not a local file", url), e);
+                }
+            }
+            loaderEntries.push(entries);
+            loader = loader.getParent();
+        }
+        Set<String> classPath = new LinkedHashSet<>();
+        if (loader == systemClassLoader) {
+            classPath.addAll(Arrays.asList(System.getProperty("java.class.path").split(File.pathSeparator)));
+        }
+        for (List<String> entries : loaderEntries) {
+            classPath.addAll(entries);
+        }
+        return String.join(File.pathSeparator, classPath);
+    }
+
+    /**
+     * Waits for a worker, checking for cancellation while it is running.
+     */
+    private static int waitFor(Swagger2MarkupConverter.Context context, Process worker) throws InterruptedException {
+        while (!worker.waitFor(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+            context.checkNotCancelled();
+        }
+        return worker.exitValue();
+    }
+
+    private static Path fragmentDirectory(Path workDirectory, int shard) {
+        return workDirectory.resolve("shard-" + shard);
+    }
+}
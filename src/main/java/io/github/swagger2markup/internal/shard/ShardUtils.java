@@ -0,0 +1,226 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.shard;
+
+import com.google.common.collect.Multimap;
+import io.github.swagger2markup.OrderBy;
+import io.github.swagger2markup.ShardBy;
+import io.github.swagger2markup.Swagger2MarkupConfig;
+import io.github.swagger2markup.Swagger2MarkupProperties;
+import io.github.swagger2markup.internal.utils.TagUtils;
+import io.github.swagger2markup.model.PathOperation;
+import io.swagger.models.HttpMethod;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.util.*;
+
+import static io.github.swagger2markup.Swagger2MarkupProperties.*;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+/**
+ * Splits path operations and definitions into shards, and transfers the configuration to the shard workers.
+ */
+public final class ShardUtils {
+
+    private static final String EXTENSIONS_PROPERTIES_PREFIX = PROPERTIES_PREFIX + "." + EXTENSION_PREFIX + ".";
+
+    private ShardUtils() {
+    }
+
+    /**
+     * Returns the key identifying a path operation in all shards : the HTTP method and the path.
+     *
+     * @param operation the path operation
+     * @return the operation key
+     */
+    public static String operationKey(PathOperation operation) {
+        return operation.getMethod().name() + " " + operation.getPath();
+    }
+
+    /**
+     * Returns the path operations of the Swagger paths, in declaration order.
+     *
+     * @param paths the Swagger paths
+     * @return the path operations
+     */
+    public static List<PathOperation> toPathOperations(Map<String, Path> paths) {
+        List<PathOperation> pathOperations = new ArrayList<>();
+        if (MapUtils.isNotEmpty(paths)) {
+            for (Map.Entry<String, Path> path : paths.entrySet()) {
+                Map<HttpMethod, Operation> operations = path.getValue().getOperationMap();
+                if (MapUtils.isNotEmpty(operations)) {
+                    for (Map.Entry<HttpMethod, Operation> operation : operations.entrySet()) {
+                        pathOperations.add(new PathOperation(operation.getKey(), path.getKey(), operation.getValue()));
+                    }
+                }
+            }
+        }
+        return pathOperations;
+    }
+
+    /**
+     * Splits the path operations into shards.<br>
+     * With {@link ShardBy#TAG}, the tags are distributed round-robin over the shards and an operation goes to the shard of its first tag.
+     * Operations without tags are distributed by a hash of their id.
+     *
+     * @param pathOperations the path operations
+     * @param shardCount     the number of shards
+     * @param shardBy        how the operations are split
+     * @return the path operations of each shard
+     */
+    public static List<List<PathOperation>> shardOperations(List<PathOperation> pathOperations, int shardCount, ShardBy shardBy) {
+        List<List<PathOperation>> shards = newShards(shardCount);
+        Set<PathOperation> taggedOperations = new LinkedHashSet<>();
+        for (PathOperation operation : pathOperations) {
+            if (shardBy == ShardBy.TAG && CollectionUtils.isNotEmpty(operation.getOperation().getTags())) {
+                taggedOperations.add(operation);
+            } else {
+                shards.get(shardOf(operation.getId(), shardCount)).add(operation);
+            }
+        }
+        if (!taggedOperations.isEmpty()) {
+            Multimap<String, PathOperation> operationsGroupedByTag = TagUtils.groupOperationsByTag(taggedOperations, null, null);
+            Set<PathOperation> assignedOperations = Collections.newSetFromMap(new IdentityHashMap<PathOperation, Boolean>());
+            int tagIndex = 0;
+            for (String tagName : operationsGroupedByTag.keySet()) {
+                List<PathOperation> shard = shards.get(tagIndex++ % shardCount);
+                for (PathOperation operation : operationsGroupedByTag.get(tagName)) {
+                    if (assignedOperations.add(operation)) {
+                        shard.add(operation);
+                    }
+                }
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * Splits the definitions into shards, by a hash of their name.
+     *
+     * @param definitionNames the definition names
+     * @param shardCount      the number of shards
+     * @return the definition names of each shard
+     */
+    public static List<List<String>> shardDefinitions(Collection<String> definitionNames, int shardCount) {
+        List<List<String>> shards = newShards(shardCount);
+        for (String definitionName : definitionNames) {
+            if (isNotBlank(definitionName)) {
+                shards.get(shardOf(definitionName, shardCount)).add(definitionName);
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * Returns the shard of a key.
+     *
+     * @param key        the key
+     * @param shardCount the number of shards
+     * @return the shard index, between 0 and shardCount - 1
+     */
+    public static int shardOf(String key, int shardCount) {
+        return Math.floorMod(Objects.hashCode(key), shardCount);
+    }
+
+    /**
+     * Converts a configuration into properties which a shard worker can load with a {@code Swagger2MarkupConfigBuilder}.<br>
+     * The worker configuration never enables sharding again.
+     *
+     * @param config the configuration
+     * @return the configuration properties
+     * @throws IllegalArgumentException if the configuration uses a custom parameter, property or response ordering
+     */
+    public static Properties toProperties(Swagger2MarkupConfig config) {
+        Validate.isTrue(config.getParameterOrderBy() != OrderBy.CUSTOM, "Custom parameter ordering is not supported with shards");
+        Validate.isTrue(config.getPropertyOrderBy() != OrderBy.CUSTOM, "Custom property ordering is not supported with shards");
+        Validate.isTrue(config.getResponseOrderBy() != OrderBy.CUSTOM, "Custom response ordering is not supported with shards");
+
+        Properties properties = new Properties();
+        setProperty(properties, MARKUP_LANGUAGE, config.getMarkupLanguage());
+        setProperty(properties, SWAGGER_MARKUP_LANGUAGE, config.getSwaggerMarkupLanguage());
+        setProperty(properties, GENERATED_EXAMPLES_ENABLED, config.isGeneratedExamplesEnabled());
+        setProperty(properties, SEPARATED_DEFINITIONS_ENABLED, config.isSeparatedDefinitionsEnabled());
+        setProperty(properties, SEPARATED_OPERATIONS_ENABLED, config.isSeparatedOperationsEnabled());
+        setProperty(properties, PATHS_GROUPED_BY, config.getPathsGroupedBy());
+        setProperty(properties, OUTPUT_LANGUAGE, config.getOutputLanguage());
+        setProperty(properties, INLINE_SCHEMA_ENABLED, config.isInlineSchemaEnabled());
+        setProperty(properties, INTER_DOCUMENT_CROSS_REFERENCES_ENABLED, config.isInterDocumentCrossReferencesEnabled());
+        setProperty(properties, INTER_DOCUMENT_CROSS_REFERENCES_PREFIX, config.getInterDocumentCrossReferencesPrefix());
+        setProperty(properties, FLAT_BODY_ENABLED, config.isFlatBodyEnabled());
+        setProperty(properties, ANCHOR_PREFIX, config.getAnchorPrefix());
+        setProperty(properties, OVERVIEW_DOCUMENT, config.getOverviewDocument());
+        setProperty(properties, PATHS_DOCUMENT, config.getPathsDocument());
+        setProperty(properties, DEFINITIONS_DOCUMENT, config.getDefinitionsDocument());
+        setProperty(properties, SECURITY_DOCUMENT, config.getSecurityDocument());
+        setProperty(properties, SEPARATED_OPERATIONS_FOLDER, config.getSeparatedOperationsFolder());
+        setProperty(properties, SEPARATED_DEFINITIONS_FOLDER, config.getSeparatedDefinitionsFolder());
+        // The tag, operation and definition orderings are only applied when the shards are merged
+        setProperty(properties, TAG_ORDER_BY, workerOrderBy(config.getTagOrderBy()));
+        setProperty(properties, OPERATION_ORDER_BY, workerOrderBy(config.getOperationOrderBy()));
+        setProperty(properties, DEFINITION_ORDER_BY, workerOrderBy(config.getDefinitionOrderBy()));
+        setProperty(properties, PARAMETER_ORDER_BY, config.getParameterOrderBy());
+        setProperty(properties, PROPERTY_ORDER_BY, config.getPropertyOrderBy());
+        setProperty(properties, RESPONSE_ORDER_BY, config.getResponseOrderBy());
+        setProperty(properties, LINE_SEPARATOR, config.getLineSeparator());
+        setProperty(properties, PARALLEL_DOCUMENTS_ENABLED, false);
+        setProperty(properties, PARALLEL_OPERATIONS_ENABLED, config.isParallelOperationsEnabled());
+        setProperty(properties, PARALLEL_DEFINITIONS_ENABLED, config.isParallelDefinitionsEnabled());
+        setProperty(properties, PARALLEL_TAGS_ENABLED, false);
+        setProperty(properties, SHARD_COUNT, 0);
+        setProperty(properties, SHARD_BY, config.getShardBy());
+        setProperty(properties, STREAMING_PATHS_ENABLED, false);
+        setProperty(properties, FRAGMENT_MEMORY_BUDGET, config.getFragmentMemoryBudget());
+        // The separated files of a worker must be written before it exits
+        setProperty(properties, SEPARATED_FILE_WRITER_THREADS, 0);
+        setProperty(properties, WRITE_IF_CHANGED_ENABLED, config.isWriteIfChangedEnabled());
+        setProperty(properties, ROLLING_FILE_SIZE, config.getRollingFileSize());
+        setProperty(properties, SEPARATED_TAGS_ENABLED, config.isSeparatedTagsEnabled());
+        setProperty(properties, SEPARATED_TAGS_FOLDER, config.getSeparatedTagsFolder());
+        setProperty(properties, DEFINITIONS_GROUPED_BY, config.getDefinitionsGroupedBy());
+        setProperty(properties, DEFINITION_GROUP_KEY, config.getDefinitionGroupKey());
+
+        Swagger2MarkupProperties extensionsProperties = config.getExtensionsProperties();
+        for (String key : extensionsProperties.getKeys()) {
+            setProperty(properties, EXTENSIONS_PROPERTIES_PREFIX + key, extensionsProperties.getString(key, null));
+        }
+        return properties;
+    }
+
+    private static OrderBy workerOrderBy(OrderBy orderBy) {
+        return orderBy == OrderBy.CUSTOM ? OrderBy.AS_IS : orderBy;
+    }
+
+    private static void setProperty(Properties properties, String key, Object value) {
+        if (value instanceof Enum) {
+            properties.setProperty(key, ((Enum<?>) value).name());
+        } else if (value != null) {
+            properties.setProperty(key, value.toString());
+        }
+    }
+
+    private static <T> List<List<T>> newShards(int shardCount) {
+        Validate.isTrue(shardCount > 0, "shardCount must be positive");
+        List<List<T>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<T>());
+        }
+        return shards;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.shard;
+
+import io.github.swagger2markup.Swagger2MarkupConfig;
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.Swagger2MarkupExtensionRegistry;
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
+import io.github.swagger2markup.internal.document.builder.DefinitionsDocumentBuilder;
+import io.github.swagger2markup.internal.document.builder.PathsDocumentBuilder;
+import io.github.swagger2markup.model.PathOperation;
+import io.github.swagger2markup.spi.*;
+import io.swagger.models.HttpMethod;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Renders the shard of a shard worker process.<br>
+ * A worker renders the path operations and definitions listed in its task file into one fragment file each.
+ * The task file also contains the configuration of the conversion. The entry point of the worker process builds the converter
+ * of the task, and hands its context to {@link #render(Properties, Swagger2MarkupConverter.Context, Swagger2MarkupExtensionRegistry)}.
+ */
+public final class ShardWorker {
+
+    static final String SWAGGER_FILE = "shard.swaggerFile";
+    static final String OUTPUT_DIRECTORY = "shard.outputDirectory";
+    static final String FRAGMENT_DIRECTORY = "shard.fragmentDirectory";
+    static final String OPERATION_COUNT = "shard.operationCount";
+    static final String OPERATION = "shard.operation.";
+    static final String DEFINITION_COUNT = "shard.definitionCount";
+    static final String DEFINITION = "shard.definition.";
+
+    static final String OPERATION_FRAGMENT = "operation-";
+    static final String DEFINITION_FRAGMENT = "definition-";
+
+    private ShardWorker() {
+    }
+
+    /**
+     * Reads a task file.
+     *
+     * @param taskFile the task file
+     * @return the task
+     * @throws IOException if the task file can't be read
+     */
+    public static Properties readTask(java.nio.file.Path taskFile) throws IOException {
+        Properties task = new Properties();
+        try (Reader reader = Files.newBufferedReader(taskFile, StandardCharsets.UTF_8)) {
+            task.load(reader);
+        }
+        return task;
+    }
+
+    /**
+     * Creates the extension registry of a worker : the document extensions loaded by the ServiceLoader, without the Swagger model extensions.
+     *
+     * @return the extension registry
+     */
+    public static Swagger2MarkupExtensionRegistry newExtensionRegistry() {
+        return new WorkerExtensionRegistry(new Swagger2MarkupExtensionRegistryBuilder().build());
+    }
+
+    /**
+     * Returns a builder of the converter of a task, with the Swagger file and the configuration of the task.
+     *
+     * @param task              the task
+     * @param extensionRegistry the extension registry of the worker
+     * @return the converter builder
+     */
+    public static Swagger2MarkupConverter.Builder newConverterBuilder(Properties task, Swagger2MarkupExtensionRegistry extensionRegistry) {
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder(task).build();
+        return Swagger2MarkupConverter.from(Paths.get(task.getProperty(SWAGGER_FILE)))
+                .withConfig(config)
+                .withExtensionRegistry(extensionRegistry);
+    }
+
+    /**
+     * Renders the path operations and definitions of a task into their fragment files.
+     *
+     * @param task              the task
+     * @param context           the context of the converter of the task
+     * @param extensionRegistry the extension registry of the converter of the task
+     * @throws IOException if a fragment file can't be written
+     */
+    public static void render(Properties task, Swagger2MarkupConverter.Context context, Swagger2MarkupExtensionRegistry extensionRegistry) throws IOException {
+        String outputDirectory = task.getProperty(OUTPUT_DIRECTORY);
+        java.nio.file.Path outputPath = StringUtils.isNotBlank(outputDirectory) ? Paths.get(outputDirectory) : null;
+        java.nio.file.Path fragmentDirectory = Paths.get(task.getProperty(FRAGMENT_DIRECTORY));
+        Files.createDirectories(fragmentDirectory);
+
+        PathsDocumentBuilder pathsDocumentBuilder = new PathsDocumentBuilder(context, extensionRegistry, outputPath);
+        int operationCount = Integer.parseInt(task.getProperty(OPERATION_COUNT));
+        for (int i = 0; i < operationCount; i++) {
+            PathOperation operation = findOperation(context, task.getProperty(OPERATION + i));
+            writeFragment(fragmentDirectory.resolve(OPERATION_FRAGMENT + i), pathsDocumentBuilder.buildOperationFragment(operation));
+        }
+
+        DefinitionsDocumentBuilder definitionsDocumentBuilder = new DefinitionsDocumentBuilder(context, extensionRegistry, outputPath);
+        int definitionCount = Integer.parseInt(task.getProperty(DEFINITION_COUNT));
+        for (int i = 0; i < definitionCount; i++) {
+            writeFragment(fragmentDirectory.resolve(DEFINITION_FRAGMENT + i), definitionsDocumentBuilder.buildDefinitionFragment(task.getProperty(DEFINITION + i)));
+        }
+    }
+
+    private static PathOperation findOperation(Swagger2MarkupConverter.Context context, String operationKey) {
+        String method = StringUtils.substringBefore(operationKey, " ");
+        String pathName = StringUtils.substringAfter(operationKey, " ");
+        Path path = context.getSwagger().getPath(pathName);
+        Validate.notNull(path, "Path '%s' not found", pathName);
+        HttpMethod httpMethod = HttpMethod.valueOf(method);
+        Operation operation = path.getOperationMap().get(httpMethod);
+        Validate.notNull(operation, "Operation '%s' not found", operationKey);
+        return new PathOperation(httpMethod, pathName, operation);
+    }
+
+    private static void writeFragment(java.nio.file.Path fragmentFile, String fragment) throws IOException {
+        Files.write(fragmentFile, fragment.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The Swagger model is already extended by the coordinating process, only the document extensions are applied by the workers.
+     */
+    private static class WorkerExtensionRegistry implements Swagger2MarkupExtensionRegistry {
+
+        private final Swagger2MarkupExtensionRegistry registry;
+
+        WorkerExtensionRegistry(Swagger2MarkupExtensionRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public List<SwaggerModelExtension> getSwaggerModelExtensions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<OverviewDocumentExtension> getOverviewDocumentExtensions() {
+            return registry.getOverviewDocumentExtensions();
+        }
+
+        @Override
+        public List<DefinitionsDocumentExtension> getDefinitionsDocumentExtensions() {
+            return registry.getDefinitionsDocumentExtensions();
+        }
+
+        @Override
+        public List<SecurityDocumentExtension> getSecurityDocumentExtensions() {
+            return registry.getSecurityDocumentExtensions();
+        }
+
+        @Override
+        public List<PathsDocumentExtension> getPathsDocumentExtensions() {
+            return registry.getPathsDocumentExtensions();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ConcurrentUtils {
+
+    /**
+     * Executes all {@code tasks} and returns their results in the order of the tasks.<br>
+     * Up to {@code parallelism} tasks run at the same time : the calling thread takes part in the execution, so that the tasks
+     * always complete, even if the executor is saturated or if this method is called from one of its own threads.<br>
+     * With a {@code parallelism} of 1, the tasks are executed one after another on the calling thread.<br>
+     * If a task fails, the tasks which are not started yet are skipped and the failure of the first failed task is rethrown.
+     *
+     * @param executor    the executor to use for additional workers
+     * @param parallelism the maximum number of tasks running at the same time
+     * @param tasks       the tasks to execute
+     * @param <T>         the result type of the tasks
+     * @return the task results, in the order of the tasks
+     */
+    public static <T> List<T> invokeAll(Executor executor, int parallelism, List<? extends Callable<T>> tasks) {
+        final List<FutureTask<T>> futureTasks = new ArrayList<>(tasks.size());
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        for (final Callable<T> task : tasks) {
+            futureTasks.add(new FutureTask<>(new Callable<T>() {
+                @Override
+                public T call() throws Exception {
+                    try {
+                        return task.call();
+                    } catch (Throwable t) {
+                        failed.set(true);
+                        throw t;
+                    }
+                }
+            }));
+        }
+
+        final AtomicInteger nextTask = new AtomicInteger();
+        Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                int taskIndex;
+                while ((taskIndex = nextTask.getAndIncrement()) < futureTasks.size()) {
+                    FutureTask<T> futureTask = futureTasks.get(taskIndex);
+                    if (failed.get())
+                        futureTask.cancel(false);
+                    else
+                        futureTask.run();
+                }
+            }
+        };
+
+        int additionalWorkers = Math.min(parallelism, futureTasks.size()) - 1;
+        for (int i = 0; i < additionalWorkers; i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                break; // the calling thread executes the remaining tasks
+            }
+        }
+        worker.run();
+
+        return getResults(futureTasks);
+    }
+
+    /**
+     * Waits for all tasks and returns their results. Rethrows the failure of the first failed task.
+     *
+     * @param futureTasks the tasks
+     * @param <T>         the result type of the tasks
+     * @return the task results
+     */
+    private static <T> List<T> getResults(List<FutureTask<T>> futureTasks) {
+        List<T> results = new ArrayList<>(futureTasks.size());
+        Throwable failure = null;
+        for (FutureTask<T> futureTask : futureTasks) {
+            try {
+                results.add(futureTask.get());
+            } catch (CancellationException e) {
+                results.add(null);
+            } catch (ExecutionException e) {
+                if (failure == null)
+                    failure = e.getCause();
+                results.add(null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for tasks to complete", e);
+            }
+        }
+        if (failure != null)
+            throw propagate(failure);
+
+        return results;
+    }
+
+    /**
+     * Rethrows unchecked failures as-is and wraps checked failures into a RuntimeException.
+     *
+     * @param failure the failure
+     * @return never returns, declared for use in throw statements
+     */
+    public static RuntimeException propagate(Throwable failure) {
+        if (failure instanceof RuntimeException)
+            throw (RuntimeException) failure;
+        if (failure instanceof Error)
+            throw (Error) failure;
+        throw new RuntimeException(failure.getMessage(), failure);
+    }
+}
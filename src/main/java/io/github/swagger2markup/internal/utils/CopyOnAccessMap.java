@@ -0,0 +1,183 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * A map whose values are copied on their first access, so that they can be modified in place without modifying the values of the source map.<br>
+ * Once sealed, the values which were never accessed are returned as is, without being copied : a sealed map must no longer be modified,
+ * and can then be read concurrently.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class CopyOnAccessMap<K, V> extends AbstractMap<K, V> {
+
+    private final Map<K, V> entries;
+    private final Set<K> copiedKeys = new HashSet<>();
+    private final UnaryOperator<V> copier;
+    private volatile boolean sealed;
+
+    /**
+     * Creates a map holding the entries of the source map, in the same order.
+     *
+     * @param source the source map, which is never modified
+     * @param copier the function copying a value of the source map
+     */
+    CopyOnAccessMap(Map<K, V> source, UnaryOperator<V> copier) {
+        this.entries = new LinkedHashMap<>(source);
+        this.copier = copier;
+    }
+
+    /**
+     * Stops copying the values on access.
+     */
+    void seal() {
+        sealed = true;
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (!entries.containsKey(key)) {
+            return null;
+        }
+        return copied((K) key, entries.get(key));
+    }
+
+    @Override
+    public V put(K key, V value) {
+        V previous = get(key);
+        entries.put(key, value);
+        copiedKeys.add(key);
+        return previous;
+    }
+
+    @Override
+    public V remove(Object key) {
+        V previous = get(key);
+        entries.remove(key);
+        copiedKeys.remove(key);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        copiedKeys.clear();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public int size() {
+                return entries.size();
+            }
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                final Iterator<Entry<K, V>> iterator = entries.entrySet().iterator();
+                return new Iterator<Entry<K, V>>() {
+                    private K lastKey;
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        Entry<K, V> entry = iterator.next();
+                        lastKey = entry.getKey();
+                        return new CopyOnAccessEntry(entry);
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                        copiedKeys.remove(lastKey);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Returns the value of the given key, copying it first if it was not copied yet and the map is not sealed.
+     */
+    private V copied(K key, V value) {
+        if (sealed || value == null || copiedKeys.contains(key)) {
+            return value;
+        }
+        V copy = copier.apply(value);
+        // Replacing the value of an existing key is not a structural modification : iterations over the entries go on
+        entries.put(key, copy);
+        copiedKeys.add(key);
+        return copy;
+    }
+
+    private class CopyOnAccessEntry implements Entry<K, V> {
+
+        private final Entry<K, V> entry;
+
+        CopyOnAccessEntry(Entry<K, V> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public K getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public V getValue() {
+            return copied(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public V setValue(V value) {
+            V previous = getValue();
+            entry.setValue(value);
+            copiedKeys.add(entry.getKey());
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) return false;
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+    }
+}
@@ -84,8 +84,20 @@ public class ExamplesUtil {
      * @return an Optional with the example content
      */
     public static Map<String, Object> generateRequestExampleMap(boolean generateMissingExamples, PathOperation pathOperation, Map<String, Model> definitions, MarkupDocBuilder markupDocBuilder) {
-        Operation operation = pathOperation.getOperation();
-        List<Parameter> parameters = operation.getParameters();
+        return generateRequestExampleMap(generateMissingExamples, pathOperation, pathOperation.getOperation().getParameters(), definitions, markupDocBuilder);
+    }
+
+    /**
+     * Generates examples for request, iterating the parameters in the given order
+     *
+     * @param generateMissingExamples specifies the missing examples should be generated
+     * @param pathOperation the Swagger Operation
+     * @param parameters the operation parameters, in the order examples should be generated
+     * @param definitions the map of definitions
+     * @param markupDocBuilder the markup builder
+     * @return an Optional with the example content
+     */
+    public static Map<String, Object> generateRequestExampleMap(boolean generateMissingExamples, PathOperation pathOperation, List<Parameter> parameters, Map<String, Model> definitions, MarkupDocBuilder markupDocBuilder) {
         Map<String, Object> examples = new LinkedHashMap<>();
 
         // Path example should always be included (if generateMissingExamples):
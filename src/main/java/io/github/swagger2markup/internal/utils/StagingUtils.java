@@ -0,0 +1,147 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Output staging : files are written next to their target and only moved to it once complete,
+ * so that a failed or cancelled conversion leaves no partially written output.
+ */
+public final class StagingUtils {
+
+    private static final String STAGING_PREFIX = ".swagger2markup-";
+
+    /**
+     * Creates an empty staging directory next to {@code outputDirectory}.
+     *
+     * @param outputDirectory the output directory
+     * @return the staging directory
+     */
+    public static Path createStagingDirectory(Path outputDirectory) {
+        try {
+            return Files.createTempDirectory(createParentDirectories(outputDirectory), STAGING_PREFIX);
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to create staging directory for '%s'", outputDirectory), e);
+        }
+    }
+
+    /**
+     * Creates an empty staging file next to {@code outputFile}.
+     *
+     * @param outputFile the output file
+     * @return the staging file
+     */
+    public static Path createStagingFile(Path outputFile) {
+        try {
+            return Files.createTempFile(createParentDirectories(outputFile), STAGING_PREFIX, ".tmp");
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to create staging file for '%s'", outputFile), e);
+        }
+    }
+
+    /**
+     * Moves every file of {@code stagingDirectory} to the same relative location in {@code outputDirectory}, replacing existing files,
+     * and deletes the staging directory.
+     *
+     * @param stagingDirectory the staging directory
+     * @param outputDirectory  the output directory
+     */
+    public static void publishDirectory(final Path stagingDirectory, final Path outputDirectory) {
+        try {
+            Files.walkFileTree(stagingDirectory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    Files.createDirectories(outputDirectory.resolve(stagingDirectory.relativize(dir).toString()));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    move(file, outputDirectory.resolve(stagingDirectory.relativize(file).toString()));
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to publish staging directory '%s' to '%s'", stagingDirectory, outputDirectory), e);
+        } finally {
+            deleteQuietly(stagingDirectory);
+        }
+    }
+
+    /**
+     * Moves {@code stagingFile} to {@code outputFile}, replacing an existing file.
+     *
+     * @param stagingFile the staging file
+     * @param outputFile  the output file
+     */
+    public static void publishFile(Path stagingFile, Path outputFile) {
+        try {
+            move(stagingFile, outputFile);
+        } catch (IOException e) {
+            deleteQuietly(stagingFile);
+            throw new RuntimeException(String.format("Failed to publish staging file '%s' to '%s'", stagingFile, outputFile), e);
+        }
+    }
+
+    /**
+     * Deletes a file or a directory recursively, ignoring failures.
+     *
+     * @param path the file or directory to delete
+     */
+    public static void deleteQuietly(Path path) {
+        try {
+            Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    Files.deleteIfExists(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                    Files.deleteIfExists(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    private static Path createParentDirectories(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        return parent;
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing an existing file. The move is atomic if the file system supports it.
+     *
+     * @param source the file to move
+     * @param target the target file
+     * @throws IOException if the file can't be moved
+     */
+    public static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.util.Json;
+import io.swagger.util.Yaml;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads Swagger sources into a JSON tree, without going through the URL handling of the {@code SwaggerParser}.
+ */
+public final class SwaggerSourceUtils {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The number of leading bytes inspected to tell a JSON source from a YAML source.
+     */
+    private static final int FORMAT_DETECTION_LIMIT = 1024;
+
+    private SwaggerSourceUtils() {
+    }
+
+    /**
+     * Reads a local Swagger JSON or YAML file into a JSON tree.<br>
+     * A file of the default file system is memory-mapped and parsed straight from the mapped buffer, other files and files larger
+     * than 2 GB are parsed from a buffered channel. The encoding of the file is detected by the parser.
+     *
+     * @param swaggerPath the Swagger file
+     * @return the JSON tree, or null if the file is empty
+     * @throws IOException if the file can't be read or parsed
+     */
+    public static JsonNode readTree(Path swaggerPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(swaggerPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            InputStream input;
+            if (size <= Integer.MAX_VALUE && swaggerPath.getFileSystem() == FileSystems.getDefault()) {
+                input = new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            } else {
+                input = new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
+            }
+            return mapper(input).readTree(input);
+        }
+    }
+
+    /**
+     * Reads a Swagger JSON or YAML source into a JSON tree, straight from the reader : the source is not read into a String first.<br>
+     * The whole tree is built in memory.
+     *
+     * @param swaggerReader the Swagger source
+     * @return the JSON tree, or null if the source is empty
+     * @throws IOException if the source can't be read or parsed
+     */
+    public static JsonNode readTree(Reader swaggerReader) throws IOException {
+        Reader reader = swaggerReader.markSupported() ? swaggerReader : new BufferedReader(swaggerReader, BUFFER_SIZE);
+        return mapper(reader).readTree(reader);
+    }
+
+    /**
+     * Checks if a JSON tree is a Swagger 2.0 specification.
+     *
+     * @param swaggerTree the JSON tree
+     * @return true if the tree is a Swagger 2.0 specification
+     */
+    public static boolean isSwagger2(JsonNode swaggerTree) {
+        return swaggerTree != null && swaggerTree.has("swagger");
+    }
+
+    /**
+     * Checks if a JSON tree is a Swagger 2.0 specification without references to other documents, which can be parsed without knowing its location.
+     *
+     * @param swaggerTree the JSON tree
+     * @return true if the tree is a self-contained Swagger 2.0 specification
+     */
+    public static boolean isSelfContained(JsonNode swaggerTree) {
+        if (!isSwagger2(swaggerTree)) {
+            return false;
+        }
+        for (String reference : swaggerTree.findValuesAsText("$ref")) {
+            if (!reference.startsWith("#")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the YAML mapper, unless the first significant character of the input is a '{', as the SwaggerParser does.<br>
+     * The input must support mark and reset.
+     */
+    private static ObjectMapper mapper(InputStream input) throws IOException {
+        input.mark(FORMAT_DETECTION_LIMIT);
+        try {
+            for (int i = 0; i < FORMAT_DETECTION_LIMIT; i++) {
+                int b = input.read();
+                // Whitespaces, UTF-8 byte order mark and the NUL bytes of UTF-16 or UTF-32 encodings are skipped
+                if (b == -1) {
+                    break;
+                } else if (b == '{') {
+                    return Json.mapper();
+                } else if (!Character.isWhitespace(b) && b != 0 && b != 0xEF && b != 0xBB && b != 0xBF && b != 0xFE && b != 0xFF) {
+                    break;
+                }
+            }
+            return Yaml.mapper();
+        } finally {
+            input.reset();
+        }
+    }
+
+    /**
+     * Returns the YAML mapper, unless the first significant character of the input is a '{'.<br>
+     * The input must support mark and reset.
+     */
+    private static ObjectMapper mapper(Reader input) throws IOException {
+        input.mark(FORMAT_DETECTION_LIMIT);
+        try {
+            for (int i = 0; i < FORMAT_DETECTION_LIMIT; i++) {
+                int c = input.read();
+                // Whitespaces and byte order mark are skipped
+                if (c == -1) {
+                    break;
+                } else if (c == '{') {
+                    return Json.mapper();
+                } else if (!Character.isWhitespace(c) && c != '\uFEFF') {
+                    break;
+                }
+            }
+            return Yaml.mapper();
+        } finally {
+            input.reset();
+        }
+    }
+
+    /**
+     * An input stream over a byte buffer, supporting mark and reset.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            buffer.mark();
+        }
+
+        @Override
+        public synchronized void reset() {
+            buffer.reset();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.swagger.models.*;
+import io.swagger.models.auth.SecuritySchemeDefinition;
+import io.swagger.models.parameters.Parameter;
+import io.swagger.util.Json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+public final class SwaggerUtils {
+
+    /**
+     * Creates a view of the {@code swagger} model which can be modified, in place too, without modifying the {@code swagger} model.<br>
+     * The info, the tags, the security requirements and the other top-level properties are copied when the view is created.
+     * Each path, definition, parameter, response and security definition is deep-copied on its first access through the view,
+     * so that only the accessed parts of the model are copied.
+     * <p>
+     * Once the view is modified, it must be sealed with {@link #sealView(Swagger)} : the parts which were never accessed are then
+     * shared with the {@code swagger} model, and the view can be read concurrently, but must no longer be modified.
+     *
+     * @param swagger the Swagger model
+     * @return the Swagger model view
+     */
+    public static Swagger copyOnWriteView(Swagger swagger) {
+        Swagger view = new Swagger();
+        view.setSwagger(swagger.getSwagger());
+        view.setInfo(deepCopy(swagger.getInfo()));
+        view.setHost(swagger.getHost());
+        view.setBasePath(swagger.getBasePath());
+        view.setTags(deepCopyElements(swagger.getTags()));
+        view.setSchemes(copyOf(swagger.getSchemes()));
+        view.setConsumes(copyOf(swagger.getConsumes()));
+        view.setProduces(copyOf(swagger.getProduces()));
+        view.setSecurity(deepCopyElements(swagger.getSecurity()));
+        view.setPaths(copyOnAccess(swagger.getPaths(), path -> deepCopy(path, Path.class)));
+        view.setSecurityDefinitions(copyOnAccess(swagger.getSecurityDefinitions(), definition -> deepCopy(definition)));
+        view.setDefinitions(copyOnAccess(swagger.getDefinitions(), model -> deepCopy(model, Model.class)));
+        view.setParameters(copyOnAccess(swagger.getParameters(), parameter -> deepCopy(parameter, Parameter.class)));
+        view.setResponses(copyOnAccess(swagger.getResponses(), response -> deepCopy(response, Response.class)));
+        view.setExternalDocs(deepCopy(swagger.getExternalDocs()));
+        if (swagger.getVendorExtensions() != null) {
+            for (Map.Entry<String, Object> vendorExtension : swagger.getVendorExtensions().entrySet())
+                view.setVendorExtension(vendorExtension.getKey(), deepCopy(vendorExtension.getValue()));
+        }
+        return view;
+    }
+
+    /**
+     * Stops copying the parts of a view created by {@link #copyOnWriteView(Swagger)} on their first access.
+     * The view must no longer be modified, and can then be read concurrently.
+     *
+     * @param view the Swagger model view
+     */
+    public static void sealView(Swagger view) {
+        seal(view.getPaths());
+        seal(view.getSecurityDefinitions());
+        seal(view.getDefinitions());
+        seal(view.getParameters());
+        seal(view.getResponses());
+    }
+
+    private static void seal(Map<?, ?> map) {
+        // The extensions may have replaced the copy-on-access maps
+        if (map instanceof CopyOnAccessMap) {
+            ((CopyOnAccessMap<?, ?>) map).seal();
+        }
+    }
+
+    private static <K, V> Map<K, V> copyOnAccess(Map<K, V> map, UnaryOperator<V> copier) {
+        return map == null ? null : new CopyOnAccessMap<>(map, copier);
+    }
+
+    /**
+     * Deep-copies a part of a Swagger model through its JSON representation : a JSON round-trip gives a deep copy of the polymorphic model types.
+     *
+     * @param value the value to copy
+     * @param type  the type to read the copy as, abstract model types are resolved by the deserializers of the Swagger JSON mapper
+     */
+    private static <T> T deepCopy(T value, Class<T> type) {
+        return value == null ? null : Json.mapper().convertValue(value, type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T deepCopy(T value) {
+        return value == null ? null : deepCopy(value, (Class<T>) value.getClass());
+    }
+
+    private static <T> List<T> deepCopyElements(List<T> list) {
+        if (list == null)
+            return null;
+
+        List<T> copy = new ArrayList<>(list.size());
+        for (T element : list)
+            copy.add(deepCopy(element));
+        return copy;
+    }
+
+    private static <T> List<T> copyOf(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.server;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.github.swagger2markup.Swagger2MarkupConfig;
+import io.github.swagger2markup.OperationNotFoundException;
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.internal.utils.ConcurrentUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Renders Swagger specifications on demand and caches the rendered documents and operation pages.<br>
+ * Concurrent requests for the same specification, configuration and page are coalesced into a single conversion.
+ * The cache is bounded by the total number of characters of the cached pages, and evicts the least recently used pages first.
+ * <p>
+ * The specification is parsed once per configuration : the pages of a specification are rendered from a cached converter,
+ * which is built by a single request too.
+ * <p>
+ * Pages and converters are keyed by the specification URI and by the configuration instance : configurations are compared
+ * by identity, not by their properties, so the same {@code Swagger2MarkupConfig} instance must be used to share the cached pages.
+ * A specification which changed must be invalidated. Separated operation or definition files are not supported.
+ */
+public class DocumentationCache {
+
+    /**
+     * The maximum number of cached converters, which hold the parsed specifications.
+     */
+    private static final int MAXIMUM_CONVERTERS = 16;
+
+    private final Cache<PageKey, String> pages;
+    private final Cache<PageKey, Swagger2MarkupConverter> converters;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Creates a cache.
+     *
+     * @param maximumSize the maximum total number of characters of the cached pages
+     */
+    public DocumentationCache(long maximumSize) {
+        Validate.isTrue(maximumSize > 0, "maximumSize must be positive");
+        this.pages = CacheBuilder.newBuilder()
+                .maximumWeight(maximumSize)
+                .weigher((PageKey key, String page) -> page.length())
+                .build();
+        this.converters = CacheBuilder.newBuilder()
+                .maximumSize(MAXIMUM_CONVERTERS)
+                .build();
+    }
+
+    /**
+     * Returns the documents of a specification, as returned by {@link Swagger2MarkupConverter#toString()}.
+     *
+     * @param swaggerUri the URI of the Swagger specification
+     * @param config     the configuration
+     * @return the rendered documents
+     */
+    public String getDocuments(final URI swaggerUri, final Swagger2MarkupConfig config) {
+        validate(swaggerUri, config);
+        return getPage(new PageKey(swaggerUri, config, null), () -> getConverter(swaggerUri, config).toString());
+    }
+
+    /**
+     * Returns the page of a single path operation, as rendered in the paths document.
+     *
+     * @param swaggerUri   the URI of the Swagger specification
+     * @param config       the configuration
+     * @param method       the HTTP method of the operation, e.g. {@code GET}
+     * @param path         the path of the operation, e.g. {@code /pets}
+     * @return the rendered operation
+     * @throws OperationNotFoundException if the operation does not exist
+     * @see Swagger2MarkupConverter#toOperationString(String, String)
+     */
+    public String getOperation(final URI swaggerUri, final Swagger2MarkupConfig config, final String method, final String path) {
+        validate(swaggerUri, config);
+        Validate.notBlank(method, "method must not be blank");
+        Validate.notBlank(path, "path must not be blank");
+        String operationKey = method.toUpperCase() + " " + path;
+        return getPage(new PageKey(swaggerUri, config, operationKey), () -> getConverter(swaggerUri, config).toOperationString(method, path));
+    }
+
+    /**
+     * Removes the cached pages of a specification.
+     *
+     * @param swaggerUri the URI of the Swagger specification
+     */
+    public void invalidate(URI swaggerUri) {
+        for (PageKey key : converters.asMap().keySet()) {
+            if (key.swaggerUri.equals(swaggerUri)) {
+                converters.invalidate(key);
+            }
+        }
+        for (PageKey key : pages.asMap().keySet()) {
+            if (key.swaggerUri.equals(swaggerUri)) {
+                pages.invalidate(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all cached pages.
+     */
+    public void invalidateAll() {
+        converters.invalidateAll();
+        pages.invalidateAll();
+    }
+
+    /**
+     * Returns the number of requests served from the cache, including the requests coalesced with a running conversion.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of requests which ran a conversion.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private String getPage(PageKey key, final Callable<String> renderer) {
+        // The cache runs the renderer in the calling thread, and makes the concurrent requests for the same key wait for it
+        final boolean[] rendered = {false};
+        try {
+            String page = pages.get(key, () -> {
+                rendered[0] = true;
+                missCount.incrementAndGet();
+                return renderer.call();
+            });
+            if (!rendered[0]) {
+                hitCount.incrementAndGet();
+            }
+            return page;
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            throw ConcurrentUtils.propagate(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the converter of a specification and configuration, which is built by a single request and then shared.
+     */
+    private Swagger2MarkupConverter getConverter(final URI swaggerUri, final Swagger2MarkupConfig config) {
+        try {
+            return converters.get(new PageKey(swaggerUri, config, null), () -> Swagger2MarkupConverter.from(swaggerUri)
+                    .withConfig(config)
+                    .build());
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            throw ConcurrentUtils.propagate(e.getCause());
+        }
+    }
+
+    private void validate(URI swaggerUri, Swagger2MarkupConfig config) {
+        Validate.notNull(swaggerUri, "swaggerUri must not be null");
+        Validate.notNull(config, "config must not be null");
+        Validate.isTrue(!config.isSeparatedOperationsEnabled() && !config.isSeparatedDefinitionsEnabled(),
+                "Separated operation or definition files are not supported");
+    }
+
+    /**
+     * The key of a page, or of a converter when the operation key is null. The configuration is compared by identity.
+     */
+    private static final class PageKey {
+        private final URI swaggerUri;
+        private final Swagger2MarkupConfig config;
+        private final String operationKey;
+
+        PageKey(URI swaggerUri, Swagger2MarkupConfig config, String operationKey) {
+            this.swaggerUri = swaggerUri;
+            this.config = config;
+            this.operationKey = operationKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PageKey)) return false;
+            PageKey pageKey = (PageKey) o;
+            return swaggerUri.equals(pageKey.swaggerUri)
+                    && config == pageKey.config
+                    && Objects.equals(operationKey, pageKey.operationKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(swaggerUri, System.identityHashCode(config), operationKey);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.swagger2markup.OperationNotFoundException;
+import io.github.swagger2markup.Swagger2MarkupConfig;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A local HTTP server rendering registered Swagger specifications on demand, backed by a {@link DocumentationCache}.<br>
+ * The server only listens on the loopback address and only serves the registered specifications:
+ * <ul>
+ * <li>{@code GET /<name>} returns the documents of the specification registered as {@code name}</li>
+ * <li>{@code GET /<name>?method=GET&path=/pets} returns the page of a single path operation</li>
+ * <li>{@code GET /stats} returns the cache hit and miss counts</li>
+ * </ul>
+ */
+public class DocumentationServer implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentationServer.class);
+
+    private static final String STATS_PATH = "stats";
+
+    private final DocumentationCache documentationCache;
+    private final Swagger2MarkupConfig config;
+    private final Map<String, URI> specifications = new ConcurrentHashMap<>();
+    private final HttpServer httpServer;
+
+    /**
+     * Creates a server, which must be started.
+     *
+     * @param port               the local port, or 0 to use an ephemeral port
+     * @param config             the configuration of all conversions
+     * @param documentationCache the cache of the rendered pages
+     * @param executor           the executor handling the requests
+     * @throws IOException if the port cannot be bound
+     */
+    public DocumentationServer(int port, Swagger2MarkupConfig config, DocumentationCache documentationCache, ExecutorService executor) throws IOException {
+        Validate.notNull(config, "config must not be null");
+        Validate.notNull(documentationCache, "documentationCache must not be null");
+        Validate.notNull(executor, "executor must not be null");
+        this.config = config;
+        this.documentationCache = documentationCache;
+        this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.httpServer.createContext("/", this::handle);
+        this.httpServer.setExecutor(executor);
+    }
+
+    /**
+     * Registers a specification.
+     *
+     * @param name       the name of the specification in the request paths
+     * @param swaggerUri the URI of the Swagger specification
+     * @return this server
+     */
+    public DocumentationServer withSpecification(String name, URI swaggerUri) {
+        Validate.notBlank(name, "name must not be blank");
+        Validate.isTrue(!name.contains("/") && !name.equals(STATS_PATH), "Invalid specification name '%s'", name);
+        Validate.notNull(swaggerUri, "swaggerUri must not be null");
+        specifications.put(name, swaggerUri);
+        return this;
+    }
+
+    public void start() {
+        httpServer.start();
+        if (logger.isInfoEnabled()) {
+            logger.info("Documentation server started on port {}", getPort());
+        }
+    }
+
+    /**
+     * Returns the local port of the server.
+     *
+     * @return the local port
+     */
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    public DocumentationCache getDocumentationCache() {
+        return documentationCache;
+    }
+
+    /**
+     * Stops the server. The executor is not shut down.
+     */
+    @Override
+    public void close() {
+        httpServer.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, "Method not allowed");
+                return;
+            }
+            String name = StringUtils.removeStart(exchange.getRequestURI().getPath(), "/");
+            if (STATS_PATH.equals(name)) {
+                send(exchange, 200, String.format("hits=%d%nmisses=%d%n", documentationCache.getHitCount(), documentationCache.getMissCount()));
+                return;
+            }
+            URI swaggerUri = specifications.get(name);
+            if (swaggerUri == null) {
+                send(exchange, 404, "Unknown specification");
+                return;
+            }
+            Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+            String method = parameters.get("method");
+            String path = parameters.get("path");
+            if (method == null && path == null) {
+                send(exchange, 200, documentationCache.getDocuments(swaggerUri, config));
+            } else if (StringUtils.isNoneBlank(method, path)) {
+                send(exchange, 200, documentationCache.getOperation(swaggerUri, config, method, path));
+            } else {
+                send(exchange, 400, "Both method and path are required");
+            }
+        } catch (OperationNotFoundException e) {
+            send(exchange, 404, StringUtils.defaultString(e.getMessage()));
+        } catch (RuntimeException e) {
+            logger.error("Failed to render documentation", e);
+            send(exchange, 500, "Failed to render documentation");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) throws UnsupportedEncodingException {
+        Map<String, String> parameters = new HashMap<>();
+        if (StringUtils.isNotEmpty(rawQuery)) {
+            for (String parameter : rawQuery.split("&")) {
+                String[] nameAndValue = parameter.split("=", 2);
+                String value = nameAndValue.length == 2 ? URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8.name()) : "";
+                parameters.put(URLDecoder.decode(nameAndValue[0], StandardCharsets.UTF_8.name()), value);
+            }
+        }
+        return parameters;
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.spi;
+
+/**
+ * Creates new instances of an extension which is not thread-safe, one for each thread of a parallel rendering stage.
+ *
+ * @param <T> the extension type
+ */
+public interface ExtensionFactory<T> {
+
+    /**
+     * Creates a new instance of the extension.
+     *
+     * @return a new extension instance
+     */
+    T newInstance();
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.spi;
+
+/**
+ * A marker interface which can be implemented by an extension which can be applied concurrently by several rendering threads.<br>
+ * The same instance of a thread-safe extension is shared by all the threads of a parallel rendering stage.
+ * Other extensions are given one instance per thread, created by their {@link ExtensionFactory}.
+ */
+public interface ThreadSafeExtension {
+}
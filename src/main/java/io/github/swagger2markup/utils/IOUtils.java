@@ -24,6 +24,11 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 public class IOUtils {
@@ -44,6 +49,42 @@ public class IOUtils {
         return fileName;
     }
 
+    /**
+     * Create unique normalized names from arbitrary strings, so that they can be used as file names in the same folder.<br>
+     * Each name is normalized with {@link #normalizeName(String)}. A normalized name already taken by a previous name, ignoring case,
+     * is suffixed with {@code _2}, {@code _3}, ... The first name keeps its normalized name, so the result depends on the iteration order of {@code names}.
+     *
+     * @param names the names to normalize, by key
+     * @param <K>   the type of the keys
+     * @return the unique normalized names, by key, in the iteration order of {@code names}
+     */
+    public static <K> Map<K, String> uniqueNormalizedNames(Map<K, String> names) {
+        Map<K, String> normalizedNames = new LinkedHashMap<>();
+        Set<String> takenNames = new HashSet<>();
+        for (Map.Entry<K, String> name : names.entrySet()) {
+            String normalizedName = normalizeName(name.getValue());
+            String uniqueName = normalizedName;
+            for (int suffix = 2; !takenNames.add(uniqueName.toLowerCase(Locale.ROOT)); suffix++) {
+                uniqueName = normalizedName + "_" + suffix;
+            }
+            normalizedNames.put(name.getKey(), uniqueName);
+        }
+        return normalizedNames;
+    }
+
+    /**
+     * Joins a relative folder and a file name with a '/' separator, independently of the platform.<br>
+     * The result can be resolved against a {@code Path} of any {@code FileSystem}, and used as a relative link.
+     *
+     * @param folder   the relative folder, can be empty
+     * @param fileName the file name
+     * @return the relative path of the file
+     */
+    public static String joinPath(String folder, String fileName) {
+        String parent = StringUtils.stripEnd(StringUtils.defaultString(folder), "/\\");
+        return parent.isEmpty() ? fileName : parent + "/" + fileName;
+    }
+
     /**
      * Create a reader from specified {@code source}.<br>
      * Returned reader should be explicitly closed after use.
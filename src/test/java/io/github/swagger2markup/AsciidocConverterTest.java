@@ -17,6 +17,15 @@ package io.github.swagger2markup;
 
 import io.github.swagger2markup.assertions.DiffUtils;
 import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
+import io.github.swagger2markup.internal.shard.ShardRendering;
+import io.github.swagger2markup.internal.shard.ShardUtils;
+import io.github.swagger2markup.model.PathOperation;
+import io.github.swagger2markup.spi.PathsDocumentExtension;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.Swagger;
+import io.swagger.models.properties.StringProperty;
+import io.swagger.parser.SwaggerParser;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.junit.Before;
@@ -24,14 +33,30 @@ import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
@@ -238,6 +263,114 @@ public class AsciidocConverterTest {
         DiffUtils.assertThatAllFilesAreEqual(expectedFilesDirectory, outputDirectory, "testSwagger2AsciiDocGroupedByTags.html");
     }
 
+    @Test
+    public void testSwagger2AsciiDocGroupedByTagsWithSeparatedTags() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/group_by_tags_separated");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withPathsGroupedBy(GroupBy.TAGS)
+                .withSeparatedTags()
+                .build();
+        Swagger2MarkupConverter.from(file)
+                .withConfig(config)
+                .build()
+                .toFolder(outputDirectory);
+
+        //Then
+        String[] files = outputDirectory.resolve("tags").toFile().list();
+        assertThat(files).hasSize(3).contains("pet.adoc", "store.adoc", "user.adoc");
+        String paths = new String(Files.readAllBytes(outputDirectory.resolve("paths.adoc")), StandardCharsets.UTF_8);
+        assertThat(paths).contains("tags/pet.adoc", "tags/store.adoc", "tags/user.adoc");
+        StringBuilder tagSections = new StringBuilder();
+        for (String tagFile : asList("pet.adoc", "store.adoc", "user.adoc")) {
+            tagSections.append(new String(Files.readAllBytes(outputDirectory.resolve("tags").resolve(tagFile)), StandardCharsets.UTF_8));
+        }
+        Path expectedPathsFile = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/group_by_tags/paths.adoc").toURI());
+        String expectedPaths = new String(Files.readAllBytes(expectedPathsFile), StandardCharsets.UTF_8);
+        assertThat(tagSections.toString()).isEqualTo(expectedPaths.substring(expectedPaths.indexOf("\n[[_pet_resource]]")));
+    }
+
+    @Test
+    public void testSwagger2AsciiDocGroupedByTagsWithShards() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/group_by_tags_shards");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withPathsGroupedBy(GroupBy.TAGS)
+                .withShards(2, ShardBy.TAG)
+                .build();
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file)
+                .withConfig(config)
+                .build();
+        converter.toFolder(outputDirectory);
+
+        //Then
+        String[] files = outputDirectory.toFile().list();
+        assertThat(files).hasSize(4).containsAll(expectedFiles);
+        Path expectedFilesDirectory = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/group_by_tags").toURI());
+        DiffUtils.assertThatAllFilesAreEqual(expectedFilesDirectory, outputDirectory, "testSwagger2AsciiDocGroupedByTagsWithShards.html");
+
+        // Every operation and definition is rendered by a worker into a fragment file, which is merged as is into the documents
+        Swagger2MarkupConverter.Context context = converter.getContext().forConversion();
+        List<Path> fragmentFiles = new ArrayList<>();
+        try (ShardRendering shardRendering = ShardRendering.render(context, new Swagger2MarkupExtensionRegistryBuilder().build(), null, ShardWorkerMain.class)) {
+            List<String> operationKeys = new ArrayList<>();
+            for (PathOperation operation : ShardUtils.toPathOperations(context.getSwagger().getPaths())) {
+                operationKeys.add(ShardUtils.operationKey(operation));
+            }
+            assertThat(shardRendering.getOperationFragments()).containsOnlyKeys(operationKeys.toArray(new String[operationKeys.size()]));
+            assertThat(shardRendering.getDefinitionFragments()).containsOnlyKeys(context.getSwagger().getDefinitions().keySet().toArray(new String[0]));
+            String paths = new String(Files.readAllBytes(outputDirectory.resolve("paths.adoc")), StandardCharsets.UTF_8);
+            for (Path operationFragment : shardRendering.getOperationFragments().values()) {
+                assertThat(paths).contains(new String(Files.readAllBytes(operationFragment), StandardCharsets.UTF_8));
+            }
+            String definitions = new String(Files.readAllBytes(outputDirectory.resolve("definitions.adoc")), StandardCharsets.UTF_8);
+            for (Path definitionFragment : shardRendering.getDefinitionFragments().values()) {
+                assertThat(definitions).contains(new String(Files.readAllBytes(definitionFragment), StandardCharsets.UTF_8));
+            }
+            fragmentFiles.addAll(shardRendering.getOperationFragments().values());
+            fragmentFiles.addAll(shardRendering.getDefinitionFragments().values());
+        }
+        for (Path fragmentFile : fragmentFiles) {
+            assertThat(fragmentFile).doesNotExist();
+        }
+    }
+
+    @Test
+    public void testSwagger2AsciiDocWithShardsRejectsRegisteredPathsExtension() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/generated");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withShards(2, ShardBy.TAG)
+                .build();
+        Swagger2MarkupExtensionRegistry registry = new Swagger2MarkupExtensionRegistryBuilder()
+                .withPathsDocumentExtension(new PathsDocumentExtension() {
+                    public void apply(Context context) {
+                    }
+                })
+                .build();
+
+        //When
+        try {
+            Swagger2MarkupConverter.from(file)
+                    .withConfig(config)
+                    .withExtensionRegistry(registry)
+                    .build()
+                    .toFolder(outputDirectory);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException e) {
+            //Then
+            assertThat(e).hasMessage("Paths document extensions which are not loaded by the ServiceLoader are not supported with shards");
+        }
+    }
+
     @Test
     public void testSwagger2AsciiDocGroupedByTagsWithMissingTag() throws IOException, URISyntaxException {
         //Given
@@ -325,6 +458,118 @@ public class AsciidocConverterTest {
                 asList("Category.adoc", "Order.adoc", "Pet.adoc", "Tag.adoc", "User.adoc"));
     }
 
+    @Test
+    public void testSwagger2AsciiDocConversionWithGroupedSeparatedDefinitions() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/grouped_definitions");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withInterDocumentCrossReferences()
+                .withDefinitionsGroupedBy(DefinitionGroupBy.VENDOR_EXTENSION, "x-group")
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        Path definitionsDirectory = outputDirectory.resolve("definitions");
+        String[] definitions = definitionsDirectory.toFile().list();
+        assertThat(definitions).hasSize(1).contains("default.adoc");
+        String defaultGroup = new String(Files.readAllBytes(definitionsDirectory.resolve("default.adoc")), StandardCharsets.UTF_8);
+        assertThat(defaultGroup).contains("[[_category]]", "[[_order]]", "[[_pet]]", "[[_tag]]", "[[_user]]", "<<default.adoc#_category,Category>>");
+        String paths = new String(Files.readAllBytes(outputDirectory.resolve("paths.adoc")), StandardCharsets.UTF_8);
+        assertThat(paths).contains("<<definitions/default.adoc#_pet,Pet>>");
+    }
+
+    @Test
+    public void testSwagger2AsciiDocConversionWithSeparatedDefinitionsGroupedByVendorExtension() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_grouped_definitions.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/grouped_definitions_vendor_extension");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withInterDocumentCrossReferences()
+                .withDefinitionsGroupedBy(DefinitionGroupBy.VENDOR_EXTENSION, "x-group")
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        Path definitionsDirectory = outputDirectory.resolve("definitions");
+        assertThat(definitionsDirectory.toFile().list()).containsOnly("pets.adoc", "users.adoc", "default.adoc");
+        String petsGroup = new String(Files.readAllBytes(definitionsDirectory.resolve("pets.adoc")), StandardCharsets.UTF_8);
+        String usersGroup = new String(Files.readAllBytes(definitionsDirectory.resolve("users.adoc")), StandardCharsets.UTF_8);
+        String defaultGroup = new String(Files.readAllBytes(definitionsDirectory.resolve("default.adoc")), StandardCharsets.UTF_8);
+        assertThat(petsGroup).contains("category", "<<pets.adoc#", "<<users.adoc#").doesNotContain("username", "city");
+        assertThat(usersGroup).contains("username", "city", "<<users.adoc#").doesNotContain("category", "<<pets.adoc#");
+        assertThat(defaultGroup).contains("message").doesNotContain("username", "category");
+        String paths = new String(Files.readAllBytes(outputDirectory.resolve("paths.adoc")), StandardCharsets.UTF_8);
+        assertThat(paths).contains("<<definitions/pets.adoc#", "<<definitions/users.adoc#", "<<definitions/default.adoc#");
+    }
+
+    @Test
+    public void testSwagger2AsciiDocConversionWithSeparatedDefinitionsGroupedByNamePrefix() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_grouped_definitions.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/grouped_definitions_name_prefix");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withInterDocumentCrossReferences()
+                .withDefinitionsGroupedBy(DefinitionGroupBy.NAME_PREFIX, ".")
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        Path definitionsDirectory = outputDirectory.resolve("definitions");
+        assertThat(definitionsDirectory.toFile().list()).containsOnly("com_acme_pets.adoc", "com_acme_users.adoc", "default.adoc");
+        String petsGroup = new String(Files.readAllBytes(definitionsDirectory.resolve("com_acme_pets.adoc")), StandardCharsets.UTF_8);
+        String usersGroup = new String(Files.readAllBytes(definitionsDirectory.resolve("com_acme_users.adoc")), StandardCharsets.UTF_8);
+        assertThat(petsGroup).contains("category", "<<com_acme_pets.adoc#", "<<com_acme_users.adoc#").doesNotContain("username", "city");
+        assertThat(usersGroup).contains("username", "city", "<<com_acme_users.adoc#").doesNotContain("category", "<<com_acme_pets.adoc#");
+        String paths = new String(Files.readAllBytes(outputDirectory.resolve("paths.adoc")), StandardCharsets.UTF_8);
+        assertThat(paths).contains("<<definitions/com_acme_pets.adoc#", "<<definitions/com_acme_users.adoc#", "<<definitions/default.adoc#");
+    }
+
+    @Test
+    public void testSwagger2AsciiDocConversionWithCollidingDefinitionGroups() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_grouped_definitions.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/grouped_definitions_colliding_groups");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Swagger swagger = new SwaggerParser().read(file.toString());
+        // The com.acme.pets and com_acme_pets groups are both normalized into com_acme_pets
+        swagger.addDefinition("com_acme_pets.Problem", new ModelImpl().type("object").property("reason", new StringProperty()));
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withInterDocumentCrossReferences()
+                .withDefinitionsGroupedBy(DefinitionGroupBy.NAME_PREFIX, ".")
+                .build();
+        Swagger2MarkupConverter.from(swagger).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        Path definitionsDirectory = outputDirectory.resolve("definitions");
+        assertThat(definitionsDirectory.toFile().list()).containsOnly("com_acme_pets.adoc", "com_acme_pets_2.adoc", "com_acme_users.adoc", "default.adoc");
+        String petsGroup = new String(Files.readAllBytes(definitionsDirectory.resolve("com_acme_pets.adoc")), StandardCharsets.UTF_8);
+        String problemsGroup = new String(Files.readAllBytes(definitionsDirectory.resolve("com_acme_pets_2.adoc")), StandardCharsets.UTF_8);
+        assertThat(petsGroup).contains("category").doesNotContain("reason");
+        assertThat(problemsGroup).contains("reason").doesNotContain("category");
+        String definitions = new String(Files.readAllBytes(outputDirectory.resolve("definitions.adoc")), StandardCharsets.UTF_8);
+        assertThat(definitions).contains("<<definitions/com_acme_pets.adoc#", "<<definitions/com_acme_pets_2.adoc#");
+    }
+
     @Test
     public void testSwagger2AsciiDocConversionWithSeparatedOperations() throws IOException, URISyntaxException {
         //Given
@@ -349,6 +594,270 @@ public class AsciidocConverterTest {
         assertThat(paths).hasSize(18);
     }
 
+    @Test
+    public void testSwagger2AsciiDocConversionWithSeparatedParallelOperations() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/generated");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedOperations()
+                .withParallelOperations()
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        String[] files = outputDirectory.toFile().list();
+        expectedFiles.add("operations");
+        assertThat(files).hasSize(5).containsAll(expectedFiles);
+
+        Path pathsDirectory = outputDirectory.resolve("operations");
+        String[] paths = pathsDirectory.toFile().list();
+        assertThat(paths).hasSize(18);
+    }
+
+    @Test
+    public void testSwagger2AsciiDocConversionWithAsynchronouslyWrittenSeparatedFiles() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/generated");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedOperations()
+                .withSeparatedDefinitions()
+                .withSeparatedFileWriterThreads(2)
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        String[] files = outputDirectory.toFile().list();
+        expectedFiles.add("operations");
+        expectedFiles.add("definitions");
+        assertThat(files).hasSize(6).containsAll(expectedFiles);
+
+        Path pathsDirectory = outputDirectory.resolve("operations");
+        String[] paths = pathsDirectory.toFile().list();
+        assertThat(paths).hasSize(18);
+
+        Path definitionsDirectory = outputDirectory.resolve("definitions");
+        String[] definitions = definitionsDirectory.toFile().list();
+        assertThat(definitions).hasSize(5).containsAll(
+                asList("Category.adoc", "Order.adoc", "Pet.adoc", "Tag.adoc", "User.adoc"));
+    }
+
+    @Test
+    public void testSwagger2AsciiDocConversionWithSeparatedFilesWrittenOnExecutor() throws IOException, URISyntaxException, InterruptedException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/separated_files_on_executor");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        final AtomicInteger executedTasks = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            protected void beforeExecute(Thread thread, Runnable task) {
+                executedTasks.incrementAndGet();
+            }
+        };
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedOperations()
+                .withSeparatedDefinitions()
+                .withSeparatedFileWriterThreads(2)
+                .build();
+        try {
+            Swagger2MarkupConverter.from(file).withConfig(config).withExecutor(executor).build()
+                    .toFolder(outputDirectory);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        //Then
+        assertThat(outputDirectory.resolve("operations").toFile().list()).hasSize(18);
+        assertThat(outputDirectory.resolve("definitions").toFile().list()).hasSize(5);
+        // No parallel rendering stage is enabled : the tasks of the executor are the separated file writes
+        assertThat(executedTasks.get()).isGreaterThan(0);
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            assertThat(thread.getName()).doesNotStartWith("swagger2markup-file-writer");
+        }
+    }
+
+    @Test
+    public void testSwagger2AsciiDocConversionWithWriteIfChanged() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/write_if_changed");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Swagger2MarkupConfig separatedConfig = new Swagger2MarkupConfigBuilder()
+                .withSeparatedOperations()
+                .withWriteIfChanged()
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(separatedConfig).build()
+                .toFolder(outputDirectory);
+        Path pathsFile = outputDirectory.resolve("paths.adoc");
+        Path operationFile = outputDirectory.resolve("operations").resolve("addPet.adoc");
+        FileTime previousRunTime = FileTime.fromMillis(1000000000000L);
+        Files.setLastModifiedTime(pathsFile, previousRunTime);
+        Files.setLastModifiedTime(operationFile, previousRunTime);
+
+        //When
+        PublishResult unchangedResult = Swagger2MarkupConverter.from(file).withConfig(separatedConfig).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        assertThat(unchangedResult.getWritten()).isEqualTo(0);
+        assertThat(unchangedResult.getSkipped()).isEqualTo(22);
+        assertThat(unchangedResult.getDeleted()).isEqualTo(0);
+        assertThat(Files.getLastModifiedTime(pathsFile)).isEqualTo(previousRunTime);
+        assertThat(Files.getLastModifiedTime(operationFile)).isEqualTo(previousRunTime);
+        assertThat(outputDirectory.resolve("operations").toFile().list()).hasSize(18);
+        assertThat(outputDirectory.resolve(".swagger2markup-manifest")).exists();
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withWriteIfChanged()
+                .build();
+        PublishResult result = Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        // Only the paths document changed, and the operation files are not produced anymore
+        assertThat(result.getWritten()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(3);
+        assertThat(result.getDeleted()).isEqualTo(18);
+        String[] files = outputDirectory.toFile().list();
+        expectedFiles.add(".swagger2markup-manifest");
+        assertThat(files).hasSize(5).containsAll(expectedFiles);
+        // The paths document now holds the operations, so it is rewritten
+        assertThat(Files.getLastModifiedTime(pathsFile)).isNotEqualTo(previousRunTime);
+    }
+
+    @Test
+    public void testSwagger2AsciiDocConversionToZipArchive() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/archive");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedOperations()
+                .withSeparatedDefinitions()
+                .build();
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file).withConfig(config).build();
+        converter.toFolder(outputDirectory);
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+
+        //When
+        converter.toArchive(archive, ArchiveFormat.ZIP);
+
+        //Then
+        List<String> entryNames = new ArrayList<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(archive.toByteArray()), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entryNames.add(entry.getName());
+                String expectedContent = new String(Files.readAllBytes(outputDirectory.resolve(entry.getName())), StandardCharsets.UTF_8);
+                assertThat(IOUtils.toString(zipInputStream, StandardCharsets.UTF_8)).isEqualTo(expectedContent);
+            }
+        }
+        assertThat(entryNames).hasSize(4 + 18 + 5).containsAll(expectedFiles)
+                .contains("operations/addPet.adoc", "definitions/Pet.adoc");
+    }
+
+    @Test
+    public void testSwagger2AsciiDocConversionWithDuplicateSeparatedFile() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/duplicate_separated_file");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Swagger swagger = new SwaggerParser().read(file.toString());
+        // The add and update pet operations have the same operation id
+        swagger.getPath("/pets").getPost().setOperationId("updatePet");
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedOperations()
+                .withInterDocumentCrossReferences()
+                .build();
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(swagger).withConfig(config).build();
+
+        //When
+        Map<String, CharSequence> documents = converter.toMap();
+        converter.toFolder(outputDirectory);
+
+        //Then
+        assertThat(documents).containsKeys("operations/updatePet.adoc", "operations/updatePet_2.adoc");
+        assertThat(documents.get("paths.adoc").toString()).contains("updatePet.adoc").contains("updatePet_2.adoc");
+        for (Map.Entry<String, CharSequence> document : documents.entrySet()) {
+            String content = new String(Files.readAllBytes(outputDirectory.resolve(document.getKey())), StandardCharsets.UTF_8);
+            assertThat(content).isEqualTo(document.getValue().toString());
+        }
+    }
+
+    @Test
+    public void testSwagger2AsciiDocConversionToMap() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/to_map");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedOperations()
+                .withSeparatedDefinitions()
+                .withInterDocumentCrossReferences()
+                .build();
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file).withConfig(config).build();
+        converter.toFolder(outputDirectory);
+
+        //When
+        Map<String, CharSequence> documents = converter.toMap();
+
+        //Then
+        assertThat(documents).hasSize(4 + 18 + 5).containsKeys("paths.adoc", "operations/addPet.adoc", "definitions/Pet.adoc");
+        for (Map.Entry<String, CharSequence> document : documents.entrySet()) {
+            String expectedContent = new String(Files.readAllBytes(outputDirectory.resolve(document.getKey())), StandardCharsets.UTF_8);
+            assertThat(document.getValue().toString()).isEqualTo(expectedContent);
+        }
+    }
+
+    @Test
+    public void testSwagger2AsciiDocConversionIntoZipFileSystem() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/zip_file_system");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Files.createDirectories(outputDirectory);
+        Path zipFile = outputDirectory.resolve("swagger.zip").toAbsolutePath();
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedOperations()
+                .withSeparatedDefinitions()
+                .withInterDocumentCrossReferences()
+                .withStreamingPaths()
+                .build();
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file).withConfig(config).build();
+
+        //When
+        try (FileSystem zipFileSystem = FileSystems.newFileSystem(URI.create("jar:" + zipFile.toUri()), Collections.singletonMap("create", "true"))) {
+            converter.toFolder(zipFileSystem.getPath("/docs"));
+        }
+
+        //Then
+        Map<String, CharSequence> documents = converter.toMap();
+        try (FileSystem zipFileSystem = FileSystems.newFileSystem(URI.create("jar:" + zipFile.toUri()), Collections.<String, Object>emptyMap())) {
+            Path zipOutputDirectory = zipFileSystem.getPath("/docs");
+            for (Map.Entry<String, CharSequence> document : documents.entrySet()) {
+                String content = new String(Files.readAllBytes(zipOutputDirectory.resolve(document.getKey())), StandardCharsets.UTF_8);
+                assertThat(content).isEqualTo(document.getValue().toString());
+            }
+            try (Stream<Path> operationFiles = Files.list(zipOutputDirectory.resolve("operations"))) {
+                assertThat(operationFiles.count()).isEqualTo(18);
+            }
+        }
+    }
+
     @Test
     public void testSwagger2AsciiDocConversionWithRussianOutputLanguage() throws IOException, URISyntaxException {
         //Given
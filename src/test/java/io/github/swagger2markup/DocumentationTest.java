@@ -19,18 +19,27 @@ import io.github.swagger2markup.builder.MyExtension;
 import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
 import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import io.github.swagger2markup.server.DocumentationCache;
+import io.github.swagger2markup.server.DocumentationServer;
 import org.apache.commons.configuration2.Configuration;
 import org.apache.commons.configuration2.builder.fluent.Configurations;
 import org.apache.commons.configuration2.ex.ConfigurationException;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public class DocumentationTest {
 
@@ -80,6 +89,108 @@ public class DocumentationTest {
         // end::convertIntoString[]
     }
 
+    public void convertIntoWriter() throws IOException {
+        Path localSwaggerFile = Paths.get("/path/to/swagger.yaml");
+
+        // tag::convertIntoWriter[]
+        try (Writer writer = Files.newBufferedWriter(Paths.get("build/asciidoc/swagger.adoc"), StandardCharsets.UTF_8)) {
+            Swagger2MarkupConverter.from(localSwaggerFile)
+                    .build()
+                    .toWriter(writer);
+        }
+        // end::convertIntoWriter[]
+    }
+
+    public void convertIntoArchive() throws IOException {
+        Path localSwaggerFile = Paths.get("/path/to/swagger.yaml");
+
+        // tag::convertIntoArchive[]
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedOperations()
+                .withSeparatedDefinitions()
+                .build();
+
+        try (OutputStream outputStream = Files.newOutputStream(Paths.get("build/asciidoc/swagger.zip"))) {
+            Swagger2MarkupConverter.from(localSwaggerFile)
+                    .withConfig(config)
+                    .build()
+                    .toArchive(outputStream, ArchiveFormat.ZIP); //<1>
+        }
+        // end::convertIntoArchive[]
+    }
+
+    public void convertIntoMap() throws IOException {
+        Path localSwaggerFile = Paths.get("/path/to/swagger.yaml");
+
+        // tag::convertIntoMap[]
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedOperations()
+                .build();
+
+        Map<String, CharSequence> documents = Swagger2MarkupConverter.from(localSwaggerFile)
+                .withConfig(config)
+                .build()
+                .toMap(); //<1>
+        CharSequence addPetOperation = documents.get("operations/addPet.adoc");
+        // end::convertIntoMap[]
+    }
+
+    public void convertOnExecutor() throws URISyntaxException, IOException {
+
+        // tag::convertOnExecutor[]
+        Path localSwaggerFile = Paths.get("/path/to/swagger.yaml");
+        Path outputDirectory = Paths.get("build/asciidoc");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withParallelOperations() //<1>
+                .withParallelDefinitions()
+                .build();
+
+        Swagger2MarkupConverter.from(localSwaggerFile)
+                .withConfig(config)
+                .withExecutor(executor) //<2>
+                .withParallelism(8) //<3>
+                .build()
+                .toFolder(outputDirectory);
+        // end::convertOnExecutor[]
+    }
+
+    public void convertWithCancellation() throws URISyntaxException, IOException {
+
+        // tag::convertWithCancellation[]
+        Path localSwaggerFile = Paths.get("/path/to/swagger.yaml");
+        Path outputDirectory = Paths.get("build/asciidoc");
+        CancellationToken cancellationToken = new CancellationToken(); //<1>
+
+        try {
+            Swagger2MarkupConverter.from(localSwaggerFile)
+                    .withCancellationToken(cancellationToken) //<2>
+                    .withTimeout(30, TimeUnit.SECONDS) //<3>
+                    .build()
+                    .toFolder(outputDirectory);
+        } catch (ConversionCancelledException e) {
+            // the conversion was stopped, no output file was written //<4>
+        }
+        // end::convertWithCancellation[]
+    }
+
+    public void documentationServer() throws IOException {
+
+        // tag::documentationServer[]
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder().build();
+        DocumentationCache documentationCache = new DocumentationCache(64 * 1024 * 1024); //<1>
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        DocumentationServer server = new DocumentationServer(8080, config, documentationCache, executor) //<2>
+                .withSpecification("petstore", Paths.get("/path/to/swagger.yaml").toUri()); //<3>
+        server.start();
+
+        String operation = documentationCache.getOperation(Paths.get("/path/to/swagger.yaml").toUri(), config, "GET", "/pets"); //<4>
+        long hits = documentationCache.getHitCount(); //<5>
+        // end::documentationServer[]
+    }
+
     public void swagger2MarkupConfigBuilder(){
         Path localSwaggerFile = Paths.get("/path/to/swagger.yaml");
 
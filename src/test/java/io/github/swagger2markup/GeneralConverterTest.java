@@ -17,22 +17,50 @@ package io.github.swagger2markup;
 
 import io.github.swagger2markup.assertions.DiffUtils;
 import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
+import io.github.swagger2markup.spi.PathsDocumentExtension;
+import io.github.swagger2markup.spi.SwaggerModelExtension;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
 public class GeneralConverterTest {
 
@@ -65,6 +93,453 @@ public class GeneralConverterTest {
         DiffUtils.assertThatFileIsEqual(expectedFile, outputFile, "testOutputFile.html");
     }
 
+    @Test
+    public void testToFileWithoutExtensionWithStreamingPaths() throws IOException, URISyntaxException {
+        //Given
+        String swaggerJsonString = IOUtils.toString(getClass().getResourceAsStream("/yaml/swagger_petstore.yaml"));
+        Path outputFile = Paths.get("build/test/asciidoc/toFileStreamingPaths/outputFile.adoc");
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withGeneratedExamples()
+                .withStreamingPaths()
+                .build();
+
+        Swagger2MarkupConverter.from(swaggerJsonString)
+                .withConfig(config)
+                .build()
+                .toFileWithoutExtension(outputFile);
+
+        //Then
+        Path expectedFile = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/toFile/outputFile.adoc").toURI());
+        DiffUtils.assertThatFileIsEqual(expectedFile, outputFile, "testOutputFileWithStreamingPaths.html");
+    }
+
+    @Test
+    public void testToWriterWithStreamingPathsWritesEachOperationOnceRendered() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        final StringWriter writer = new StringWriter();
+        final List<Integer> writtenLengths = new ArrayList<>();
+        Swagger2MarkupExtensionRegistry registry = new Swagger2MarkupExtensionRegistryBuilder()
+                .withPathsDocumentExtension(new PathsDocumentExtension() {
+                    public void apply(Context context) {
+                        if (context.getPosition() == Position.OPERATION_BEFORE) {
+                            writtenLengths.add(writer.getBuffer().length());
+                        }
+                    }
+                })
+                .build();
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withStreamingPaths()
+                .build();
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file).withConfig(config).withExtensionRegistry(registry).build();
+
+        //When
+        converter.toWriter(writer);
+
+        //Then
+        assertThat(writtenLengths).hasSize(18);
+        // Each operation is written into the writer before the next one is rendered
+        for (int i = 1; i < writtenLengths.size(); i++) {
+            assertThat(writtenLengths.get(i)).isGreaterThan(writtenLengths.get(i - 1));
+        }
+        assertThat(writer.toString()).isEqualTo(Swagger2MarkupConverter.from(file).build().toString());
+    }
+
+    @Test
+    public void testToFileWithoutExtensionWithSpilledFragments() throws IOException, URISyntaxException, InterruptedException {
+        //Given
+        String swaggerJsonString = IOUtils.toString(getClass().getResourceAsStream("/yaml/swagger_petstore.yaml"));
+        Path outputFile = Paths.get("build/test/asciidoc/toFileSpilledFragments/outputFile.adoc");
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withGeneratedExamples()
+                .withStreamingPaths()
+                .withParallelOperations()
+                .withParallelDefinitions()
+                .withFragmentMemoryBudget(1)
+                .build();
+
+        Path tempDirectory = Paths.get(System.getProperty("java.io.tmpdir"));
+        List<String> spillFiles = new ArrayList<>();
+        try (WatchService watchService = tempDirectory.getFileSystem().newWatchService()) {
+            tempDirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE);
+
+            Swagger2MarkupConverter.from(swaggerJsonString)
+                    .withConfig(config)
+                    .build()
+                    .toFileWithoutExtension(outputFile);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            WatchKey watchKey;
+            while (spillFiles.isEmpty() && (watchKey = watchService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) != null) {
+                for (WatchEvent<?> event : watchKey.pollEvents()) {
+                    String fileName = String.valueOf(event.context());
+                    if (fileName.startsWith("swagger2markup-fragments-")) {
+                        spillFiles.add(fileName);
+                    }
+                }
+                watchKey.reset();
+            }
+        }
+
+        //Then
+        Path expectedFile = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/toFile/outputFile.adoc").toURI());
+        DiffUtils.assertThatFileIsEqual(expectedFile, outputFile, "testOutputFileWithSpilledFragments.html");
+        // The fragments spilled into temporary files, which are deleted once the document is assembled
+        assertThat(spillFiles).isNotEmpty();
+        for (String spillFile : spillFiles) {
+            assertThat(tempDirectory.resolve(spillFile)).doesNotExist();
+        }
+    }
+
+    @Test
+    public void testToFileWithoutExtensionWithRollingFiles() throws IOException, URISyntaxException {
+        //Given
+        String swaggerJsonString = IOUtils.toString(getClass().getResourceAsStream("/yaml/swagger_petstore.yaml"));
+        Path outputDirectory = Paths.get("build/test/asciidoc/toFileRolling");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Path outputFile = outputDirectory.resolve("outputFile.adoc");
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withGeneratedExamples()
+                .withParallelDefinitions()
+                .withRollingFileSize(4096)
+                .build();
+
+        Swagger2MarkupConverter.from(swaggerJsonString)
+                .withConfig(config)
+                .build()
+                .toFileWithoutExtension(outputFile);
+
+        //Then
+        List<String> includes = Files.readAllLines(outputFile, StandardCharsets.UTF_8);
+        assertThat(includes.size()).isGreaterThan(1);
+        StringBuilder parts = new StringBuilder();
+        for (int i = 0; i < includes.size(); i++) {
+            String partFileName = String.format("outputFile-part-%03d.adoc", i + 1);
+            assertThat(includes.get(i)).isEqualTo("include::" + partFileName + "[]");
+            parts.append(new String(Files.readAllBytes(outputDirectory.resolve(partFileName)), StandardCharsets.UTF_8));
+        }
+        Path expectedFile = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/toFile/outputFile.adoc").toURI());
+        assertThat(parts.toString()).isEqualTo(new String(Files.readAllBytes(expectedFile), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testToFileWithoutExtensionReplacesExistingFile() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/toFileReplace");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Path outputFile = outputDirectory.resolve("outputFile.adoc");
+        Files.createDirectories(outputDirectory);
+        Files.write(outputFile, "previous content, longer than the new one would be if it was not truncated".getBytes(StandardCharsets.UTF_8));
+
+        //When
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file).build();
+        converter.toFileWithoutExtension(outputFile);
+
+        //Then
+        assertThat(outputDirectory.toFile().list()).containsExactly("outputFile.adoc");
+        assertThat(new String(Files.readAllBytes(outputFile), StandardCharsets.UTF_8)).isEqualTo(converter.toString());
+    }
+
+    @Test
+    public void testToFileWithoutExtensionOnExecutor() throws IOException, URISyntaxException {
+        //Given
+        String swaggerJsonString = IOUtils.toString(getClass().getResourceAsStream("/yaml/swagger_petstore.yaml"));
+        Path outputFile = Paths.get("build/test/asciidoc/toFileOnExecutor/outputFile.adoc");
+        final AtomicInteger executedTasks = new AtomicInteger();
+        final Set<Thread> executorThreads = ConcurrentHashMap.newKeySet();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            protected void beforeExecute(Thread thread, Runnable task) {
+                executedTasks.incrementAndGet();
+                executorThreads.add(thread);
+            }
+        };
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withGeneratedExamples()
+                .withParallelDocuments()
+                .withParallelOperations()
+                .withParallelDefinitions()
+                .build();
+
+        try {
+            Swagger2MarkupConverter.from(swaggerJsonString)
+                    .withConfig(config)
+                    .withExecutor(executor)
+                    .withParallelism(2)
+                    .build()
+                    .toFileWithoutExtension(outputFile);
+        } finally {
+            executor.shutdown();
+        }
+
+        //Then
+        Path expectedFile = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/toFile/outputFile.adoc").toURI());
+        DiffUtils.assertThatFileIsEqual(expectedFile, outputFile, "testOutputFileOnExecutor.html");
+        // Each parallel stage runs one additional worker on the executor, besides the calling thread
+        assertThat(executedTasks.get()).isGreaterThanOrEqualTo(3);
+        assertThat(executorThreads).isNotEmpty().doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    public void testToFileWithoutExtensionAsync() throws Exception {
+        //Given
+        String swaggerJsonString = IOUtils.toString(getClass().getResourceAsStream("/yaml/swagger_petstore.yaml"));
+        Path outputFile = Paths.get("build/test/asciidoc/toFileAsync/outputFile.adoc");
+        Files.deleteIfExists(outputFile);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch executorStarted = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                executorStarted.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withGeneratedExamples()
+                .withParallelDocuments()
+                .build();
+
+        try {
+            CompletableFuture<Void> conversion = Swagger2MarkupConverter.from(swaggerJsonString)
+                    .withConfig(config)
+                    .withExecutor(executor)
+                    .build()
+                    .toFileWithoutExtensionAsync(outputFile);
+
+            //Then
+            // The conversion runs on the executor, which is still busy
+            assertThat(conversion.isDone()).isFalse();
+            assertThat(outputFile).doesNotExist();
+            executorStarted.countDown();
+            conversion.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        Path expectedFile = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/toFile/outputFile.adoc").toURI());
+        DiffUtils.assertThatFileIsEqual(expectedFile, outputFile, "testOutputFileAsync.html");
+    }
+
+    @Test
+    public void testToStringAsyncWithShards() throws Exception {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch executorStarted = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                executorStarted.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withShards(2, ShardBy.TAG)
+                .build();
+        String expectedDocuments = Swagger2MarkupConverter.from(file).build().toString();
+
+        //When
+        try {
+            CompletableFuture<String> conversion = Swagger2MarkupConverter.from(file)
+                    .withConfig(config)
+                    .withExecutor(executor)
+                    .build()
+                    .toStringAsync();
+
+            //Then
+            // The shard workers are started by the first stage, on the executor, which is still busy
+            assertThat(conversion.isDone()).isFalse();
+            executorStarted.countDown();
+            assertThat(conversion.get(60, TimeUnit.SECONDS)).isEqualTo(expectedDocuments);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testToFolderAndToStringAsync() throws Exception {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/toFolderAsync");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        //When
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file).build();
+        converter.toFolderAsync(outputDirectory).get();
+        String asciiDocAsString = converter.toStringAsync().get();
+
+        //Then
+        String[] files = outputDirectory.toFile().list();
+        assertThat(files).hasSize(4).containsAll(expectedFiles);
+        Path expectedFilesDirectory = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/default").toURI());
+        DiffUtils.assertThatAllFilesAreEqual(expectedFilesDirectory, outputDirectory, "testToFolderAsync.html");
+        assertThat(asciiDocAsString).isEqualTo(converter.toString());
+    }
+
+    @Test
+    public void testToWriterAndToOutputStream() throws Exception {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file).build();
+        StringWriter writer = new StringWriter();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //When
+        converter.toWriter(writer);
+        converter.toOutputStream(outputStream, StandardCharsets.UTF_8);
+
+        //Then
+        String asciiDocAsString = converter.toString();
+        assertThat(writer.toString()).isEqualTo(asciiDocAsString);
+        assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(asciiDocAsString);
+    }
+
+    @Test
+    public void testToTarGzArchive() throws Exception {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path archiveFile = Paths.get("build/test/asciidoc/archive/swagger.tar.gz");
+        Files.createDirectories(archiveFile.getParent());
+        Files.deleteIfExists(archiveFile);
+        Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file).build();
+
+        //When
+        converter.toArchive(archiveFile, ArchiveFormat.TAR_GZ);
+
+        //Then
+        byte[] tar;
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(Files.newInputStream(archiveFile))) {
+            tar = IOUtils.toByteArray(gzipInputStream);
+        }
+        assertThat(tar.length % 512).isEqualTo(0);
+        assertThat(new String(tar, 0, "overview.adoc".length(), StandardCharsets.UTF_8)).isEqualTo("overview.adoc");
+        assertThat(new String(tar, 257, 5, StandardCharsets.US_ASCII)).isEqualTo("ustar");
+        int entrySize = Integer.parseInt(new String(tar, 124, 11, StandardCharsets.US_ASCII), 8);
+        assertThat(converter.toString()).startsWith(new String(tar, 512, entrySize, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testConcurrentConversionsWithSharedConverter() throws Exception {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource("/yaml/swagger_inlineSchema.yaml").toURI());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withGeneratedExamples()
+                .withParallelOperations()
+                .withParallelDefinitions()
+                .build();
+        final Swagger2MarkupConverter converter = Swagger2MarkupConverter.from(file).withConfig(config).build();
+        String expectedDocument = Swagger2MarkupConverter.from(file).withConfig(config).build().toString();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //When
+        List<Future<String>> documents = new ArrayList<>();
+        try {
+            for (int i = 0; i < 32; i++) {
+                documents.add(executor.submit(converter::toString));
+            }
+
+            //Then
+            for (Future<String> document : documents) {
+                assertThat(document.get()).isEqualTo(expectedDocument);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(converter.toString()).isEqualTo(expectedDocument);
+    }
+
+    @Test
+    public void testSwaggerModelExtensionDoesNotModifySharedSwaggerModel() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Swagger swagger = new SwaggerParser().read(file.toString());
+        int pathCount = swagger.getPaths().size();
+        String addPetDescription = swagger.getPath("/pets").getPost().getDescription();
+        Swagger2MarkupExtensionRegistry registry = new Swagger2MarkupExtensionRegistryBuilder()
+                .withSwaggerModelExtension(new SwaggerModelExtension() {
+                    public void apply(Swagger swagger) {
+                        swagger.setHost("newHostName");
+                        swagger.getInfo().setTitle("newTitle");
+                        swagger.getPaths().remove("/users/login");
+                        swagger.getPath("/pets").getPost().setDescription("newDescription");
+                        swagger.getDefinitions().get("Pet").getProperties().remove("category");
+                    }
+                })
+                .build();
+
+        //When
+        String extendedMarkup = Swagger2MarkupConverter.from(swagger).withExtensionRegistry(registry).build().toString();
+        String markup = Swagger2MarkupConverter.from(swagger).build().toString();
+
+        //Then
+        assertThat(extendedMarkup).contains("newHostName", "newTitle", "newDescription")
+                .doesNotContain("/users/login", "|*category* +");
+        assertThat(swagger.getHost()).isEqualTo("petstore.swagger.io");
+        assertThat(swagger.getInfo().getTitle()).isEqualTo("Swagger Petstore");
+        assertThat(swagger.getPaths()).hasSize(pathCount).containsKey("/users/login");
+        assertThat(swagger.getPath("/pets").getPost().getDescription()).isEqualTo(addPetDescription);
+        assertThat(swagger.getDefinitions().get("Pet").getProperties()).containsKey("category");
+        assertThat(markup).contains("petstore.swagger.io", "Swagger Petstore", "/users/login", "|*category* +")
+                .doesNotContain("newHostName", "newTitle", "newDescription");
+    }
+
+    @Test
+    public void testToFolderWithCancelledToken() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/cancelled/output");
+        FileUtils.deleteQuietly(outputDirectory.getParent().toFile());
+        CancellationToken cancellationToken = new CancellationToken();
+        cancellationToken.cancel();
+
+        //When
+        try {
+            Swagger2MarkupConverter.from(file)
+                    .withCancellationToken(cancellationToken)
+                    .build()
+                    .toFolder(outputDirectory);
+            fail("ConversionCancelledException expected");
+        } catch (ConversionCancelledException e) {
+            assertThat(e.getMessage()).isEqualTo("Conversion was cancelled");
+        }
+
+        //Then
+        assertThat(outputDirectory.getParent().toFile().list()).isEmpty();
+    }
+
+    @Test
+    public void testToFileWithExceededTimeout() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputFile = Paths.get("build/test/asciidoc/timeout/outputFile");
+        FileUtils.deleteQuietly(outputFile.getParent().toFile());
+
+        //When
+        try {
+            Swagger2MarkupConverter.from(file)
+                    .withTimeout(1, TimeUnit.NANOSECONDS)
+                    .build()
+                    .toFile(outputFile);
+            fail("ConversionCancelledException expected");
+        } catch (ConversionCancelledException e) {
+            assertThat(e.getMessage()).isEqualTo("Conversion deadline exceeded");
+        }
+
+        //Then
+        assertThat(outputFile.getParent().toFile().list()).isEmpty();
+    }
+
     @Test
     public void testFromHttpURI() throws IOException, URISyntaxException {
         //Given
@@ -139,5 +614,53 @@ public class GeneralConverterTest {
         String[] files = outputDirectory.toFile().list();
         assertThat(files).hasSize(4).containsAll(expectedFiles);
     }
-    
+
+    @Test
+    public void testFromPathReadsLikeSwaggerParser() throws IOException, URISyntaxException {
+        for (String swaggerFile : asList("/yaml/swagger_petstore.yaml", "/json/swagger_polymorphism.json")) {
+            //Given
+            Path file = Paths.get(GeneralConverterTest.class.getResource(swaggerFile).toURI());
+            Swagger swagger = new SwaggerParser().read(file.toString());
+
+            //When
+            String markup = Swagger2MarkupConverter.from(file).build().toString();
+
+            //Then
+            assertThat(markup).isEqualTo(Swagger2MarkupConverter.from(swagger).build().toString());
+        }
+    }
+
+    @Test
+    public void testFromReaderReadsLikeSwaggerParser() throws IOException, URISyntaxException {
+        for (String swaggerFile : asList("/yaml/swagger_petstore.yaml", "/json/swagger_polymorphism.json")) {
+            //Given
+            Path file = Paths.get(GeneralConverterTest.class.getResource(swaggerFile).toURI());
+            Swagger swagger = new SwaggerParser().read(file.toString());
+
+            //When
+            String markup;
+            try (Reader reader = new InputStreamReader(GeneralConverterTest.class.getResourceAsStream(swaggerFile), StandardCharsets.UTF_8)) {
+                markup = Swagger2MarkupConverter.from(reader).build().toString();
+            }
+
+            //Then
+            assertThat(markup).isEqualTo(Swagger2MarkupConverter.from(swagger).build().toString());
+        }
+    }
+
+    @Test
+    public void testFromReaderConvertsSwagger12Source() throws IOException {
+        //Given
+        Swagger2MarkupConverter.Builder expected = Swagger2MarkupConverter.from(IOUtils.toString(GeneralConverterTest.class.getResourceAsStream("/json/swagger_12.json"), "UTF-8"));
+
+        //When
+        Swagger2MarkupConverter converter;
+        try (Reader reader = new InputStreamReader(GeneralConverterTest.class.getResourceAsStream("/json/swagger_12.json"), StandardCharsets.UTF_8)) {
+            converter = Swagger2MarkupConverter.from(reader).build();
+        }
+
+        //Then
+        assertThat(converter.toString()).isEqualTo(expected.build().toString());
+    }
+
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import io.github.swagger2markup.assertions.DiffUtils;
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.BDDAssertions.assertThat;
+
+/**
+ * Checks that the parallel and streaming rendering modes produce the same documents as the default sequential rendering.
+ */
+@RunWith(Parameterized.class)
+public class RenderingModesOutputTest {
+
+    private static final String[] EXPECTED_FILES = new String[]{"definitions.adoc", "overview.adoc", "paths.adoc", "security.adoc"};
+
+    @Parameterized.Parameters(name = "{0}")
+    public static List<Object[]> parameters() {
+        return asList(new Object[][]{
+                {"parallel_documents", "/yaml/swagger_petstore.yaml", "/expected/asciidoc/default",
+                        new Swagger2MarkupConfigBuilder()
+                                .withParallelDocuments()
+                                .build()},
+                {"inline_schema_parallel_definitions", "/yaml/swagger_inlineSchema.yaml", "/expected/asciidoc/inline_schema",
+                        new Swagger2MarkupConfigBuilder()
+                                .withParallelDefinitions()
+                                .build()},
+                {"group_by_tags_parallel_operations", "/yaml/swagger_petstore.yaml", "/expected/asciidoc/group_by_tags",
+                        new Swagger2MarkupConfigBuilder()
+                                .withPathsGroupedBy(GroupBy.TAGS)
+                                .withParallelOperations()
+                                .build()},
+                {"group_by_tags_parallel_tags", "/yaml/swagger_petstore.yaml", "/expected/asciidoc/group_by_tags",
+                        new Swagger2MarkupConfigBuilder()
+                                .withPathsGroupedBy(GroupBy.TAGS)
+                                .withParallelTags()
+                                .build()},
+                {"group_by_tags_streaming_paths", "/yaml/swagger_petstore.yaml", "/expected/asciidoc/group_by_tags",
+                        new Swagger2MarkupConfigBuilder()
+                                .withPathsGroupedBy(GroupBy.TAGS)
+                                .withStreamingPaths()
+                                .build()},
+                {"group_by_tags_spilled_tag_sections", "/yaml/swagger_petstore.yaml", "/expected/asciidoc/group_by_tags",
+                        new Swagger2MarkupConfigBuilder()
+                                .withPathsGroupedBy(GroupBy.TAGS)
+                                .withParallelTags()
+                                .withStreamingPaths()
+                                .withFragmentMemoryBudget(1)
+                                .build()}
+        });
+    }
+
+    private final String name;
+    private final String swaggerResource;
+    private final String expectedResource;
+    private final Swagger2MarkupConfig config;
+
+    public RenderingModesOutputTest(String name, String swaggerResource, String expectedResource, Swagger2MarkupConfig config) {
+        this.name = name;
+        this.swaggerResource = swaggerResource;
+        this.expectedResource = expectedResource;
+        this.config = config;
+    }
+
+    @Test
+    public void testSwagger2AsciiDocConversionMatchesSequentialRendering() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(RenderingModesOutputTest.class.getResource(swaggerResource).toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/rendering_modes").resolve(name);
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        //When
+        Swagger2MarkupConverter.from(file)
+                .withConfig(config)
+                .build()
+                .toFolder(outputDirectory);
+
+        //Then
+        String[] files = outputDirectory.toFile().list();
+        assertThat(files).hasSize(4).containsAll(asList(EXPECTED_FILES));
+        Path expectedFilesDirectory = Paths.get(RenderingModesOutputTest.class.getResource(expectedResource).toURI());
+        DiffUtils.assertThatAllFilesAreEqual(expectedFilesDirectory, outputDirectory, "testRenderingModes_" + name + ".html");
+    }
+}
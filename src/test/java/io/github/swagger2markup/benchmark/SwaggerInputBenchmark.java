@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.benchmark;
+
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.swagger.parser.SwaggerParser;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a local Swagger JSON file by location with the SwaggerParser, with reading it through
+ * {@link Swagger2MarkupConverter#from(Path)}, which parses the memory-mapped file.<br>
+ * Run with {@code [definitionCount] [iterations]} arguments, e.g. {@code 200000 10} for a spec of about 150 MB.
+ */
+public class SwaggerInputBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 3;
+
+    public static void main(String[] args) throws IOException {
+        int definitionCount = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        Path swaggerFile = Files.createTempFile("swagger-input-benchmark", ".json");
+        try {
+            writeSwagger(swaggerFile, definitionCount);
+            System.out.printf("Swagger file : %d definitions, %d MB%n", definitionCount, Files.size(swaggerFile) / (1024 * 1024));
+
+            long locationMillis = median(iterations, () -> new SwaggerParser().read(swaggerFile.toString()));
+            long pathMillis = median(iterations, () -> Swagger2MarkupConverter.from(swaggerFile));
+            System.out.printf("SwaggerParser.read(location) : %d ms%n", locationMillis);
+            System.out.printf("Swagger2MarkupConverter.from(Path) : %d ms%n", pathMillis);
+        } finally {
+            Files.deleteIfExists(swaggerFile);
+        }
+    }
+
+    private static long median(int iterations, Runnable read) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            read.run();
+        }
+        long[] millis = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            read.run();
+            millis[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+        Arrays.sort(millis);
+        return millis[iterations / 2];
+    }
+
+    private static void writeSwagger(Path swaggerFile, int definitionCount) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(swaggerFile, StandardCharsets.UTF_8)) {
+            writer.write("{\"swagger\":\"2.0\",\"info\":{\"title\":\"Benchmark\",\"version\":\"1.0\"},\"paths\":{");
+            for (int i = 0; i < definitionCount; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(String.format("\"/models/%d\":{\"get\":{\"operationId\":\"getModel%d\",\"description\":\"Returns model %d\","
+                        + "\"responses\":{\"200\":{\"description\":\"OK\",\"schema\":{\"$ref\":\"#/definitions/Model%d\"}}}}}", i, i, i, i));
+            }
+            writer.write("},\"definitions\":{");
+            for (int i = 0; i < definitionCount; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(String.format("\"Model%d\":{\"type\":\"object\",\"description\":\"Model %d\",\"properties\":{"
+                        + "\"id\":{\"type\":\"integer\",\"format\":\"int64\"},\"name\":{\"type\":\"string\"},"
+                        + "\"tags\":{\"type\":\"array\",\"items\":{\"type\":\"string\"}}}}", i, i));
+            }
+            writer.write("}}");
+        }
+    }
+}
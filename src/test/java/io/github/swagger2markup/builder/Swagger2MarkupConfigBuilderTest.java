@@ -70,6 +70,21 @@ public class Swagger2MarkupConfigBuilderTest {
         assertThat(config.isInterDocumentCrossReferencesEnabled()).isFalse();
         assertThat(config.isSeparatedDefinitionsEnabled()).isFalse();
         assertThat(config.isSeparatedOperationsEnabled()).isFalse();
+        assertThat(config.isParallelDocumentsEnabled()).isFalse();
+        assertThat(config.isParallelOperationsEnabled()).isFalse();
+        assertThat(config.isParallelDefinitionsEnabled()).isFalse();
+        assertThat(config.isParallelTagsEnabled()).isFalse();
+        assertThat(config.getShardCount()).isEqualTo(0);
+        assertThat(config.getShardBy()).isEqualTo(ShardBy.OPERATION_ID_HASH);
+        assertThat(config.isStreamingPathsEnabled()).isFalse();
+        assertThat(config.getFragmentMemoryBudget()).isEqualTo(0);
+        assertThat(config.getSeparatedFileWriterThreads()).isEqualTo(0);
+        assertThat(config.isWriteIfChangedEnabled()).isFalse();
+        assertThat(config.getRollingFileSize()).isEqualTo(0);
+        assertThat(config.isSeparatedTagsEnabled()).isFalse();
+        assertThat(config.getSeparatedTagsFolder()).isEqualTo("tags");
+        assertThat(config.getDefinitionsGroupedBy()).isEqualTo(DefinitionGroupBy.AS_IS);
+        assertThat(config.getDefinitionGroupKey()).isEqualTo(".");
         assertThat(config.getExtensionsProperties().getKeys()).hasSize(2)
                 .containsOnly("uniqueId1.customProperty1",
                         "uniqueId1.customProperty2"
@@ -114,6 +129,21 @@ public class Swagger2MarkupConfigBuilderTest {
         assertThat(config.isInterDocumentCrossReferencesEnabled()).isTrue();
         assertThat(config.isSeparatedDefinitionsEnabled()).isTrue();
         assertThat(config.isSeparatedOperationsEnabled()).isTrue();
+        assertThat(config.isParallelDocumentsEnabled()).isTrue();
+        assertThat(config.isParallelOperationsEnabled()).isTrue();
+        assertThat(config.isParallelDefinitionsEnabled()).isTrue();
+        assertThat(config.isParallelTagsEnabled()).isTrue();
+        assertThat(config.getShardCount()).isEqualTo(4);
+        assertThat(config.getShardBy()).isEqualTo(ShardBy.TAG);
+        assertThat(config.isStreamingPathsEnabled()).isTrue();
+        assertThat(config.getFragmentMemoryBudget()).isEqualTo(1048576);
+        assertThat(config.getSeparatedFileWriterThreads()).isEqualTo(2);
+        assertThat(config.isWriteIfChangedEnabled()).isTrue();
+        assertThat(config.getRollingFileSize()).isEqualTo(10485760);
+        assertThat(config.isSeparatedTagsEnabled()).isTrue();
+        assertThat(config.getSeparatedTagsFolder()).isEqualTo("tagsTest");
+        assertThat(config.getDefinitionsGroupedBy()).isEqualTo(DefinitionGroupBy.NAME_PREFIX);
+        assertThat(config.getDefinitionGroupKey()).isEqualTo("_");
         assertThat(config.getExtensionsProperties().getKeys()).hasSize(4)
                 .containsOnly("uniqueId1.customProperty1",
                         "uniqueId1.customProperty2",
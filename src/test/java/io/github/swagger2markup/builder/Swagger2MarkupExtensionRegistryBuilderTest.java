@@ -15,8 +15,11 @@
  */
 package io.github.swagger2markup.builder;
 
+import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.Swagger2MarkupExtensionRegistry;
+import io.github.swagger2markup.spi.PathsDocumentExtension;
 import io.github.swagger2markup.spi.SwaggerModelExtension;
+import io.github.swagger2markup.spi.ThreadSafeExtension;
 import io.swagger.models.Swagger;
 import org.junit.Test;
 
@@ -50,4 +53,68 @@ public class Swagger2MarkupExtensionRegistryBuilderTest {
         assertThat(extensions.size()).isEqualTo(3);
         assertThat(extensions).contains(ext1, ext2, ext3);
     }
+
+    @Test
+    public void testWorkerRegistry() {
+        //Given
+        PathsDocumentExtension threadSafeExtension = new MyThreadSafePathsExtension();
+        PathsDocumentExtension sharedExtension = new PathsDocumentExtension() {
+            public void apply(Context context) {
+            }
+        };
+        Swagger2MarkupExtensionRegistry registry = new Swagger2MarkupExtensionRegistryBuilder()
+                .withPathsDocumentExtension(threadSafeExtension)
+                .withPathsDocumentExtension(MyPathsExtension::new)
+                .withPathsDocumentExtension(sharedExtension)
+                .build();
+        MyContextExtension contextExtension = new MyContextExtension();
+        Swagger2MarkupConverter.from(new Swagger())
+                .withExtensionRegistry(new Swagger2MarkupExtensionRegistryBuilder().withSwaggerModelExtension(contextExtension).build())
+                .build();
+        Swagger2MarkupConverter.Context globalContext = contextExtension.initContext;
+
+        //When
+        Swagger2MarkupExtensionRegistry workerRegistry = registry.newWorkerRegistry(globalContext);
+
+        //Then
+        List<PathsDocumentExtension> extensions = registry.getPathsDocumentExtensions();
+        List<PathsDocumentExtension> workerExtensions = workerRegistry.getPathsDocumentExtensions();
+        assertThat(workerExtensions).hasSize(3);
+        assertThat(workerExtensions.get(0)).isSameAs(threadSafeExtension);
+        assertThat(workerExtensions.get(1)).isInstanceOf(MyPathsExtension.class).isNotSameAs(extensions.get(1));
+        assertThat(((MyPathsExtension) workerExtensions.get(1)).initialized).isTrue();
+        assertThat(workerExtensions.get(2)).isNotSameAs(sharedExtension);
+    }
+
+    public static class MyContextExtension extends SwaggerModelExtension {
+        private Swagger2MarkupConverter.Context initContext;
+
+        @Override
+        public void init(Swagger2MarkupConverter.Context globalContext) {
+            initContext = globalContext;
+        }
+
+        @Override
+        public void apply(Swagger swagger) {
+        }
+    }
+
+    public static class MyThreadSafePathsExtension extends PathsDocumentExtension implements ThreadSafeExtension {
+        @Override
+        public void apply(Context context) {
+        }
+    }
+
+    public static class MyPathsExtension extends PathsDocumentExtension {
+        private boolean initialized;
+
+        @Override
+        public void init(Swagger2MarkupConverter.Context globalContext) {
+            initialized = true;
+        }
+
+        @Override
+        public void apply(Context context) {
+        }
+    }
 }
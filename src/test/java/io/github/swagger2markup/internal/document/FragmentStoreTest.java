@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.document;
+
+import io.github.swagger2markup.internal.document.FragmentStore.Fragment;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+
+public class FragmentStoreTest {
+
+    @Test
+    public void testReleasedFragmentFreesMemoryBudget() {
+        //Given
+        try (FragmentStore fragmentStore = new FragmentStore(20)) {
+            Fragment first = fragmentStore.add("0123456789");
+
+            //When
+            assertThat(fragmentStore.read(first)).isEqualTo("0123456789");
+            fragmentStore.release(first);
+            Fragment second = fragmentStore.add("9876543210");
+
+            //Then
+            assertThat(second.isSpilled()).isFalse();
+            assertThat(fragmentStore.getHeapSize()).isEqualTo(20);
+            assertThat(fragmentStore.getSpilledSize()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void testRetainedFragmentIsKeptUntilLastRelease() {
+        //Given
+        try (FragmentStore fragmentStore = new FragmentStore(0)) {
+            Fragment fragment = fragmentStore.add("fragment");
+            fragmentStore.retain(fragment);
+
+            //When
+            fragmentStore.release(fragment);
+
+            //Then
+            assertThat(fragmentStore.read(fragment)).isEqualTo("fragment");
+            fragmentStore.release(fragment);
+            assertThat(fragmentStore.getHeapSize()).isEqualTo(0);
+            try {
+                fragmentStore.read(fragment);
+                failBecauseExceptionWasNotThrown(IllegalStateException.class);
+            } catch (IllegalStateException e) {
+                assertThat(e).hasMessage("Fragment was already released");
+            }
+        }
+    }
+}
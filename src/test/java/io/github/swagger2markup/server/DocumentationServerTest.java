@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.server;
+
+import io.github.swagger2markup.Swagger2MarkupConfig;
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class DocumentationServerTest {
+
+    @Test
+    public void testConcurrentRequestsAreCoalesced() throws Exception {
+        //Given
+        final URI file = DocumentationServerTest.class.getResource("/yaml/swagger_petstore.yaml").toURI();
+        final Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder().build();
+        final DocumentationCache documentationCache = new DocumentationCache(10 * 1024 * 1024);
+        String expectedDocuments = Swagger2MarkupConverter.from(file).withConfig(config).build().toString();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        //When
+        List<Future<String>> documents = new ArrayList<>();
+        try {
+            for (int i = 0; i < 16; i++) {
+                documents.add(executor.submit(() -> {
+                    start.await();
+                    return documentationCache.getDocuments(file, config);
+                }));
+            }
+            start.countDown();
+
+            //Then
+            for (Future<String> document : documents) {
+                assertThat(document.get()).isEqualTo(expectedDocuments);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(documentationCache.getMissCount()).isEqualTo(1);
+        assertThat(documentationCache.getHitCount()).isEqualTo(15);
+
+        String operation = documentationCache.getOperation(file, config, "post", "/pets");
+        assertThat(expectedDocuments).contains(operation);
+        assertThat(documentationCache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testPagesAreRenderedFromCachedConverter() throws Exception {
+        //Given
+        Path file = Files.createTempFile("swagger_petstore", ".yaml");
+        Files.copy(Paths.get(DocumentationServerTest.class.getResource("/yaml/swagger_petstore.yaml").toURI()), file, StandardCopyOption.REPLACE_EXISTING);
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder().build();
+        DocumentationCache documentationCache = new DocumentationCache(10 * 1024 * 1024);
+
+        try {
+            //When
+            String documents = documentationCache.getDocuments(file.toUri(), config);
+            Files.delete(file);
+
+            //Then
+            assertThat(documents).contains(documentationCache.getOperation(file.toUri(), config, "post", "/pets"));
+            assertThat(documents).contains(documentationCache.getOperation(file.toUri(), config, "get", "/pets/findByTags"));
+            assertThat(documentationCache.getMissCount()).isEqualTo(3);
+
+            documentationCache.invalidate(file.toUri());
+            try {
+                documentationCache.getDocuments(file.toUri(), config);
+                fail("The deleted specification should have been read again");
+            } catch (RuntimeException e) {
+                assertThat(documentationCache.getMissCount()).isEqualTo(4);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testServer() throws Exception {
+        //Given
+        URI file = DocumentationServerTest.class.getResource("/yaml/swagger_petstore.yaml").toURI();
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder().build();
+        String expectedDocuments = Swagger2MarkupConverter.from(file).withConfig(config).build().toString();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        //When
+        try (DocumentationServer server = new DocumentationServer(0, config, new DocumentationCache(10 * 1024 * 1024), executor)) {
+            server.withSpecification("petstore", file).start();
+            String baseUrl = "http://127.0.0.1:" + server.getPort();
+
+            //Then
+            assertThat(get(baseUrl + "/petstore")).isEqualTo(expectedDocuments);
+            assertThat(get(baseUrl + "/petstore")).isEqualTo(expectedDocuments);
+            assertThat(expectedDocuments).contains(get(baseUrl + "/petstore?method=POST&path=%2Fpets"));
+            assertThat(get(baseUrl + "/stats")).contains("hits=1").contains("misses=2");
+            assertThat(((HttpURLConnection) new URL(baseUrl + "/unknown").openConnection()).getResponseCode()).isEqualTo(404);
+            assertThat(((HttpURLConnection) new URL(baseUrl + "/petstore?method=DELETE&path=%2Fpets").openConnection()).getResponseCode()).isEqualTo(404);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static String get(String url) throws Exception {
+        try (InputStream inputStream = new URL(url).openStream()) {
+            return IOUtils.toString(inputStream, "UTF-8");
+        }
+    }
+}